@@ -0,0 +1,73 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import utils.BatchFormatter;
+import utils.RecordLayout;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * BatchFormatter 隨執行緒數量增加的效能；serial 為單一執行緒逐筆呼叫 RecordLayout.format 的基準
+ */
+@State(Scope.Benchmark)
+public class BatchFormatBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final String[] NAMES = {"王小明", "Alice Smith", "ｶﾀｶﾅ商事", "台北市中正區重慶南路一段"};
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private final RecordLayout layout = RecordLayout.builder()
+            .field(10, -1, '0')
+            .field(20, 1)
+            .field(30, 1)
+            .field(8, -1)
+            .field(12, 1)
+            .build();
+    private final List<Object[]> rows = new ArrayList<>(ROWS);
+    private final StringBuilder sb = new StringBuilder();
+    private ForkJoinPool pool;
+    private BatchFormatter formatter;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < ROWS; i++)
+            rows.add(new Object[]{i, NAMES[i & 3], NAMES[(i >> 2) & 3], "A" + (i % 97), "備註"});
+        pool = new ForkJoinPool(threads);
+        formatter = new BatchFormatter(layout, pool, "\n");
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int serial() {
+        sb.setLength(0);
+        for (Object[] row : rows)
+            layout.format(row, sb).append('\n');
+        return sb.length();
+    }
+
+    @Benchmark
+    public List<String> format() {
+        return formatter.format(rows);
+    }
+
+    @Benchmark
+    public int write() throws IOException {
+        sb.setLength(0);
+        formatter.write(rows, sb);
+        return sb.length();
+    }
+}
@@ -0,0 +1,49 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.StringUtils;
+import utils.WidthPolicy;
+
+/**
+ * 預設方式的批次半形檢查(DEFAULT)，與逐字元計算(SCALAR)的比較。
+ * SCALAR 為另一個 WidthPolicy 實例，計算結果相同，但不會走批次檢查
+ */
+@State(Scope.Benchmark)
+public class BlockWidthBenchmark {
+
+    private static final WidthPolicy SCALAR = StringUtils::widthOf;
+
+    @Param({"DEFAULT", "SCALAR"})
+    public String policyName;
+
+    @Param({"ASCII", "FIELD", "MIXED", "CJK"})
+    public String kind;
+
+    @Param({"SHORT", "LONG"})
+    public String size;
+
+    private WidthPolicy policy;
+    private String str;
+    private int half;
+
+    @Setup
+    public void setUp() {
+        policy = "SCALAR".equals(policyName) ? SCALAR : WidthPolicy.DEFAULT;
+        str = Inputs.generate(kind, size);
+        half = StringUtils.widthOf(str) / 2 + 1;
+    }
+
+    @Benchmark
+    public int widthOf() {
+        return StringUtils.widthOf(str, policy);
+    }
+
+    @Benchmark
+    public String slice() {
+        return StringUtils.slice(str, half, false, policy);
+    }
+}
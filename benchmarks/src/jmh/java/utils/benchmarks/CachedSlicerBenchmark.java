@@ -0,0 +1,52 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import utils.CachedSlicer;
+import utils.StringUtils;
+
+/**
+ * CachedSlicer 與直接呼叫 StringUtils.sliceRPad 的比較：欄位值從 distinct 個不同的值中輪流取出，
+ * 快取容量固定為 4096，distinct 超過容量時會持續移除項目
+ */
+@State(Scope.Benchmark)
+public class CachedSlicerBenchmark {
+
+    static final int OPERATIONS = 1024;
+
+    @Param({"100", "2000", "20000"})
+    public int distinct;
+
+    private String[] values;
+    private final CachedSlicer slicer = new CachedSlicer(4096);
+
+    @Setup
+    public void setUp() {
+        values = new String[distinct];
+        for (int i = 0; i < distinct; i++)
+            values[i] = (i % 3 == 0 ? "台北市中正區分行" : "Branch Office No.") + i;
+        slicer.clear();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int direct() {
+        int length = 0;
+        for (int i = 0; i < OPERATIONS; i++)
+            length += StringUtils.sliceRPad(values[(i * 7919 & Integer.MAX_VALUE) % distinct], 16).length();
+        return length;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int cached() {
+        int length = 0;
+        for (int i = 0; i < OPERATIONS; i++)
+            length += slicer.sliceRPad(values[(i * 7919 & Integer.MAX_VALUE) % distinct], 16).length();
+        return length;
+    }
+}
@@ -0,0 +1,54 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.EncodedSlicer;
+import utils.StringUtils;
+
+import java.nio.charset.Charset;
+
+/**
+ * 對編碼後的欄位值做 sliceRPad：解碼 → StringUtils → 編碼，與 EncodedSlicer 直接處理位元組的比較
+ */
+@State(Scope.Benchmark)
+public class EncodedSlicerBenchmark {
+
+    private static final String[] NAMES = {"王小明", "Alice Smith", "台北市中正區重慶南路一段", "A01 備註"};
+    private static final int WIDTH = 16;
+
+    @Param({"UTF-8", "MS950"})
+    public String charsetName;
+
+    private Charset charset;
+    private EncodedSlicer slicer;
+    private byte[][] fields;
+    private final byte[] dest = new byte[64];
+
+    @Setup
+    public void setUp() {
+        charset = Charset.forName(charsetName);
+        slicer = EncodedSlicer.of(charset);
+        fields = new byte[NAMES.length][];
+        for (int i = 0; i < NAMES.length; i++)
+            fields[i] = NAMES[i].getBytes(charset);
+    }
+
+    @Benchmark
+    public int roundTrip() {
+        int length = 0;
+        for (byte[] field : fields)
+            length += StringUtils.sliceRPad(new String(field, charset), WIDTH).getBytes(charset).length;
+        return length;
+    }
+
+    @Benchmark
+    public int direct() {
+        int length = 0;
+        for (byte[] field : fields)
+            length += slicer.slice(field, 0, field.length, WIDTH, 1, ' ', dest, 0);
+        return length;
+    }
+}
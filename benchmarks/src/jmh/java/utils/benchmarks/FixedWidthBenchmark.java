@@ -0,0 +1,121 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import utils.FixedWidthReader;
+import utils.FixedWidthWriter;
+import utils.RecordLayout;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * RecordLayout、FixedWidthWriter、FixedWidthReader：每次操作處理 RECORDS 筆資料錄
+ */
+@State(Scope.Benchmark)
+public class FixedWidthBenchmark {
+
+    static final int RECORDS = 100_000;
+
+    private static final Charset MS950 = Charset.forName("MS950");
+    private static final String[] NAMES = {"王小明", "Alice Smith", "ｶﾀｶﾅ商事", "台北市中正區重慶南路一段"};
+
+    private final RecordLayout layout = RecordLayout.builder()
+            .field(10, -1, '0')
+            .field(20, 1)
+            .field(30, 1)
+            .field(8, -1)
+            .field(12, 1)
+            .build();
+    private final Object[] row = new Object[5];
+    private final StringBuilder sb = new StringBuilder();
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("fixed-width", ".txt");
+        try (FixedWidthWriter writer = FixedWidthWriter.open(file, layout, MS950)) {
+            for (int i = 0; i < RECORDS; i++)
+                writer.write(fill(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private Object[] fill(int i) {
+        row[0] = i;
+        row[1] = NAMES[i & 3];
+        row[2] = NAMES[(i >> 2) & 3];
+        row[3] = "A" + (i % 97);
+        row[4] = "備註";
+        return row;
+    }
+
+    @Benchmark
+    public int format() {
+        int length = 0;
+        for (int i = 0; i < RECORDS; i++) {
+            sb.setLength(0);
+            length += layout.format(fill(i), sb).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public long write() throws IOException {
+        CountingChannel channel = new CountingChannel();
+        try (FixedWidthWriter writer = new FixedWidthWriter(channel, layout, MS950, "\n", 1 << 16)) {
+            for (int i = 0; i < RECORDS; i++)
+                writer.write(fill(i));
+        }
+        return channel.bytes;
+    }
+
+    @Benchmark
+    public long read() throws IOException {
+        long length = 0;
+        try (FixedWidthReader reader = FixedWidthReader.open(file, layout, MS950)) {
+            while (reader.next())
+                length += reader.fieldLength(1);
+        }
+        return length;
+    }
+
+    /**
+     * 只計算位元組數，不實際寫入的 Channel
+     */
+    private static final class CountingChannel implements WritableByteChannel {
+
+        long bytes;
+        private boolean open = true;
+
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            src.position(src.limit());
+            bytes += n;
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package utils.benchmarks;
+
+import java.util.Random;
+
+/**
+ * 產生效能測試用的輸入字串
+ */
+final class Inputs {
+
+    // 短欄位(≤ 20 欄)與長備註(10K 以上字元)
+    static final int SHORT_LENGTH = 12;
+    static final int LONG_LENGTH = 12_000;
+
+    private static final String ASCII = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 ,.-";
+    private static final String CJK = "的一是不了人我在有他這中大來上國個到說們為子和你地出道也時年得就那要下以生會自著去之過家學對可她裡後小麼心多天而能好都然沒日於起還發成事只作當想看文無開手十用主行方又如前所本見經頭面公同三已老從動兩長";
+    private static final String KANA = "ｱｲｳｴｵｶｷｸｹｺｻｼｽｾｿﾀﾁﾂﾃﾄﾅﾆﾇﾈﾉﾊﾋﾌﾍﾎﾏﾐﾑﾒﾓﾔﾕﾖﾗﾘﾙﾚﾛﾜｦﾝﾞﾟ";
+
+    private Inputs() {
+    }
+
+    /**
+     * @param kind ASCII：純半形；CJK：純中文；MIXED：以半形為主，混合中文與日文半形字元；
+     *             FIELD：幾乎都是半形，偶爾夾雜中文(約 2%)
+     * @param size SHORT 或 LONG
+     * @return 固定亂數種子所產生的字串
+     */
+    static String generate(String kind, String size) {
+        int length = "SHORT".equals(size) ? SHORT_LENGTH : LONG_LENGTH;
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            switch (kind) {
+                case "ASCII":
+                    sb.append(pick(ASCII, random));
+                    break;
+                case "CJK":
+                    sb.append(pick(CJK, random));
+                    break;
+                case "FIELD":
+                    sb.append(pick(random.nextInt(50) == 0 ? CJK : ASCII, random));
+                    break;
+                default:
+                    int n = random.nextInt(10);
+                    sb.append(pick(n < 7 ? ASCII : n < 9 ? CJK : KANA, random));
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static char pick(String chars, Random random) {
+        return chars.charAt(random.nextInt(chars.length()));
+    }
+}
@@ -0,0 +1,44 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import utils.StringUtils;
+import utils.StringUtilsMetrics;
+
+/**
+ * StringUtilsMetrics 開啟與關閉時，短欄位 slice 的成本；以多個執行緒同時呼叫，檢查計數器的競爭
+ */
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean enabled;
+
+    private final String[] fields = {"王小明abc", "Alice Smith Jr.", "中文字中文字中文字", "ｶﾀｶﾅ商事"};
+
+    @Setup
+    public void setUp() {
+        StringUtilsMetrics.reset();
+        if (enabled)
+            StringUtilsMetrics.enable();
+    }
+
+    @TearDown
+    public void tearDown() {
+        StringUtilsMetrics.disable();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int slicePad() {
+        int length = 0;
+        for (String field : fields)
+            length += StringUtils.slice(field, 7, 1, ' ').length();
+        return length;
+    }
+}
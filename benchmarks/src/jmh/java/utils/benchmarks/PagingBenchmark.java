@@ -0,0 +1,45 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.StringUtils;
+import utils.WidthIndexedString;
+
+/**
+ * 將長字串依固定長度逐頁切割：每頁以 StringUtils.slice 從頭計算(O(N²))，
+ * 與先建立 WidthIndexedString 之後再切割(含建立索引的時間)的比較
+ */
+@State(Scope.Benchmark)
+public class PagingBenchmark {
+
+    private static final int PAGE_WIDTH = 80;
+
+    @Param({"ASCII", "CJK", "MIXED"})
+    public String kind;
+
+    private String str;
+    private int width;
+
+    @Setup
+    public void setUp() {
+        str = Inputs.generate(kind, "LONG");
+        width = StringUtils.widthOf(str);
+    }
+
+    @Benchmark
+    public void stringUtils(Blackhole blackhole) {
+        for (int column = 0; column < width; column += PAGE_WIDTH)
+            blackhole.consume(StringUtils.slice(str, column, PAGE_WIDTH, false, false));
+    }
+
+    @Benchmark
+    public void widthIndexedString(Blackhole blackhole) {
+        WidthIndexedString indexed = new WidthIndexedString(str);
+        for (int column = 0; column < width; column += PAGE_WIDTH)
+            blackhole.consume(indexed.slice(column, PAGE_WIDTH, false, false));
+    }
+}
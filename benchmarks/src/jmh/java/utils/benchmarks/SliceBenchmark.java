@@ -0,0 +1,93 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.StringUtils;
+
+/**
+ * slice、tailStringOfSliced、以及 Padding 相關方法。切割長度為字串總長度的一半；
+ * Padding 的長度為字串總長度再加上 8，確保每次都需要補滿
+ */
+@State(Scope.Benchmark)
+public class SliceBenchmark {
+
+    @Param({"ASCII", "CJK", "MIXED"})
+    public String kind;
+
+    @Param({"SHORT", "LONG"})
+    public String size;
+
+    private String str;
+    private int half;
+    private int padded;
+    private final StringBuilder sb = new StringBuilder();
+    private char[] buffer;
+
+    @Setup
+    public void setUp() {
+        str = Inputs.generate(kind, size);
+        int width = StringUtils.widthOf(str);
+        half = width / 2 + 1;
+        padded = width + 8;
+        buffer = new char[padded];
+    }
+
+    @Benchmark
+    public String slice() {
+        return StringUtils.slice(str, half);
+    }
+
+    @Benchmark
+    public String sliceIncludeCutChar() {
+        return StringUtils.slice(str, half, true);
+    }
+
+    @Benchmark
+    public String sliceRange() {
+        return StringUtils.slice(str, half / 2, half, false, false);
+    }
+
+    @Benchmark
+    public String tailStringOfSliced() {
+        return StringUtils.tailStringOfSliced(str, half, false);
+    }
+
+    @Benchmark
+    public String sliceOption() {
+        return StringUtils.slice(str, padded, 1, 'x');
+    }
+
+    @Benchmark
+    public String sliceRPad() {
+        return StringUtils.sliceRPad(str, half);
+    }
+
+    @Benchmark
+    public String sliceLPad() {
+        return StringUtils.sliceLPad(str, half);
+    }
+
+    @Benchmark
+    public String leftPad() {
+        return StringUtils.leftPad(str, padded);
+    }
+
+    @Benchmark
+    public String rightPad() {
+        return StringUtils.rightPad(str, padded, 'x');
+    }
+
+    @Benchmark
+    public int appendSlice() {
+        sb.setLength(0);
+        return StringUtils.appendSlice(sb, str, padded, 1, ' ').length();
+    }
+
+    @Benchmark
+    public int sliceIntoCharArray() {
+        return StringUtils.slice(str, padded, -1, ' ', buffer, 0);
+    }
+}
@@ -0,0 +1,63 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.StringUtils;
+
+import java.util.Iterator;
+
+@State(Scope.Benchmark)
+public class SplitBenchmark {
+
+    @Param({"ASCII", "CJK", "MIXED"})
+    public String kind;
+
+    @Param({"SHORT", "LONG"})
+    public String size;
+
+    @Param({"7", "80"})
+    public int width;
+
+    private String str;
+
+    @Setup
+    public void setUp() {
+        str = Inputs.generate(kind, size);
+    }
+
+    @Benchmark
+    public String[] split() {
+        return StringUtils.split(str, width, false);
+    }
+
+    @Benchmark
+    public String[] splitIncludeCutChar() {
+        return StringUtils.split(str, width, true);
+    }
+
+    @Benchmark
+    public int forEachSegment() {
+        int[] checksum = new int[1];
+        StringUtils.forEachSegment(str, width, (start, end) -> checksum[0] += end - start);
+        return checksum[0];
+    }
+
+    @Benchmark
+    public void segmentIterator(Blackhole blackhole) {
+        Iterator<CharSequence> iterator = StringUtils.segmentIterator(str, width, false);
+        while (iterator.hasNext())
+            blackhole.consume(iterator.next());
+    }
+
+    /**
+     * 只需要前三段時，split 仍會切割整個字串
+     */
+    @Benchmark
+    public long segmentsFirstThree() {
+        return StringUtils.segments(str, width, false).limit(3).count();
+    }
+}
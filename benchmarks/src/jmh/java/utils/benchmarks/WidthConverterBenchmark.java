@@ -0,0 +1,65 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.StringUtils;
+import utils.WidthConverter;
+
+/**
+ * WidthConverter：轉換後再切割，與轉換、切割在同一次走訪中完成的比較。切割長度為轉換後總長度的一半
+ */
+@State(Scope.Benchmark)
+public class WidthConverterBenchmark {
+
+    @Param({"ASCII", "CJK", "MIXED"})
+    public String kind;
+
+    @Param({"SHORT", "LONG"})
+    public String size;
+
+    private String half;
+    private String full;
+    private int halfLength;
+    private int fullLength;
+
+    @Setup
+    public void setUp() {
+        half = Inputs.generate(kind, size);
+        full = WidthConverter.toFullWidth(half);
+        halfLength = StringUtils.widthOf(WidthConverter.toHalfWidth(full)) / 2 + 1;
+        fullLength = StringUtils.widthOf(full) / 2 + 1;
+    }
+
+    @Benchmark
+    public String toHalfWidth() {
+        return WidthConverter.toHalfWidth(full);
+    }
+
+    @Benchmark
+    public String toFullWidth() {
+        return WidthConverter.toFullWidth(half);
+    }
+
+    @Benchmark
+    public String toHalfWidthThenSlice() {
+        return StringUtils.slice(WidthConverter.toHalfWidth(full), halfLength, 1, ' ');
+    }
+
+    @Benchmark
+    public String sliceHalfWidth() {
+        return WidthConverter.sliceHalfWidth(full, halfLength, 1, ' ');
+    }
+
+    @Benchmark
+    public String toFullWidthThenSlice() {
+        return StringUtils.slice(WidthConverter.toFullWidth(half), fullLength, 1, ' ');
+    }
+
+    @Benchmark
+    public String sliceFullWidth() {
+        return WidthConverter.sliceFullWidth(half, fullLength, 1, ' ');
+    }
+}
@@ -0,0 +1,38 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.StringUtils;
+
+@State(Scope.Benchmark)
+public class WidthOfBenchmark {
+
+    @Param({"ASCII", "CJK", "MIXED"})
+    public String kind;
+
+    @Param({"SHORT", "LONG"})
+    public String size;
+
+    private String str;
+
+    @Setup
+    public void setUp() {
+        str = Inputs.generate(kind, size);
+    }
+
+    @Benchmark
+    public int widthOfChar() {
+        int width = 0;
+        for (int i = 0; i < str.length(); i++)
+            width += StringUtils.widthOf(str.charAt(i));
+        return width;
+    }
+
+    @Benchmark
+    public int widthOfString() {
+        return StringUtils.widthOf(str);
+    }
+}
@@ -0,0 +1,55 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.CharsetWidthPolicy;
+import utils.StringUtils;
+import utils.TerminalWidthPolicy;
+import utils.WidthPolicy;
+
+@State(Scope.Benchmark)
+public class WidthPolicyBenchmark {
+
+    @Param({"DEFAULT", "MS950", "TERMINAL"})
+    public String policyName;
+
+    @Param({"ASCII", "CJK", "MIXED"})
+    public String kind;
+
+    @Param({"SHORT", "LONG"})
+    public String size;
+
+    private WidthPolicy policy;
+    private String str;
+    private int half;
+
+    @Setup
+    public void setUp() {
+        switch (policyName) {
+            case "MS950":
+                policy = CharsetWidthPolicy.ms950();
+                break;
+            case "TERMINAL":
+                policy = TerminalWidthPolicy.INSTANCE;
+                break;
+            default:
+                policy = WidthPolicy.DEFAULT;
+                break;
+        }
+        str = Inputs.generate(kind, size);
+        half = StringUtils.widthOf(str, policy) / 2 + 1;
+    }
+
+    @Benchmark
+    public int widthOf() {
+        return StringUtils.widthOf(str, policy);
+    }
+
+    @Benchmark
+    public String sliceRPad() {
+        return StringUtils.sliceRPad(str, half, ' ', policy);
+    }
+}
@@ -0,0 +1,34 @@
+package utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.WidthPolicy;
+import utils.WordWrapper;
+
+@State(Scope.Benchmark)
+public class WordWrapBenchmark {
+
+    @Param({"ASCII", "CJK", "MIXED"})
+    public String kind;
+
+    @Param({"false", "true"})
+    public boolean justify;
+
+    private String str;
+    private WordWrapper wrapper;
+
+    @Setup
+    public void setUp() {
+        str = Inputs.generate(kind, "LONG");
+        wrapper = new WordWrapper(40, WidthPolicy.DEFAULT, justify);
+    }
+
+    @Benchmark
+    public void wrap(Blackhole blackhole) {
+        wrapper.wrap(str, blackhole::consume);
+    }
+}
@@ -0,0 +1,202 @@
+package utils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * 以多個執行緒，將大量資料錄依 RecordLayout 格式化。資料錄切成固定筆數的區段，以 ForkJoinPool 平行處理；
+ * 格式化時重複使用 StringBuilder，不會為每個區段重新建立。結果依輸入的順序回傳或寫出，且與逐筆呼叫 RecordLayout.format 的結果完全相同
+ *
+ * <p>write 方法每次只讀取一個視窗(多個區段)的資料錄，格式化後依序寫出，再讀取下一個視窗；
+ * 因此資料量再大，所佔用的記憶體也有上限
+ */
+public final class BatchFormatter {
+
+    // 每個區段的資料錄筆數
+    private static final int CHUNK_ROWS = 1024;
+    // 每個視窗的區段數，為平行度的倍數
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final RecordLayout layout;
+    private final ForkJoinPool pool;
+    private final String lineSeparator;
+    // format 方法中，每個執行緒重複使用的 StringBuilder
+    private final ThreadLocal<StringBuilder> recordBuilders;
+
+    /**
+     * 使用 ForkJoinPool.commonPool()，並以 "\n" 分隔每筆資料錄
+     * @param layout 欄位配置
+     */
+    public BatchFormatter(RecordLayout layout) {
+        this(layout, ForkJoinPool.commonPool(), "\n");
+    }
+
+    /**
+     * @param layout 欄位配置
+     * @param pool 執行格式化的 ForkJoinPool
+     * @param lineSeparator write 方法中，每筆資料錄之後附加的分隔字串
+     */
+    public BatchFormatter(RecordLayout layout, ForkJoinPool pool, String lineSeparator) {
+        this.layout = layout;
+        this.pool = pool;
+        this.lineSeparator = lineSeparator;
+        this.recordBuilders = ThreadLocal.withInitial(() -> new StringBuilder(layout.recordWidth()));
+    }
+
+    /**
+     * @return 欄位配置
+     */
+    public RecordLayout layout() {
+        return layout;
+    }
+
+    /**
+     * 將所有資料錄格式化後，依輸入的順序回傳
+     * @param rows 各筆資料錄的欄位值；欄位數量須與 layout 相同
+     * @return 格式化後的資料錄，順序與 rows 相同
+     */
+    public List<String> format(List<? extends Object[]> rows) {
+        Object[][] array = rows.toArray(new Object[0][]);
+        String[] results = new String[array.length];
+        invoke(chunkCount(array.length), chunk -> {
+            int from = chunk * CHUNK_ROWS;
+            int to = Math.min(from + CHUNK_ROWS, array.length);
+            StringBuilder sb = recordBuilders.get();
+            for (int i = from; i < to; i++) {
+                sb.setLength(0);
+                results[i] = layout.format(array[i], sb).toString();
+            }
+        });
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 將所有資料錄格式化後，依輸入的順序寫出，每筆資料錄之後附加分隔字串
+     * @param rows 各筆資料錄的欄位值；欄位數量須與 layout 相同
+     * @param out 欲寫出的目的地
+     * @throws IOException 寫出時發生錯誤
+     */
+    public void write(List<? extends Object[]> rows, Appendable out) throws IOException {
+        write(rows.spliterator(), out);
+    }
+
+    /**
+     * 與 write(List, Appendable) 相同；Stream 須為有序(ordered)，以循序的方式讀取
+     * @param rows 各筆資料錄的欄位值；欄位數量須與 layout 相同
+     * @param out 欲寫出的目的地
+     * @throws IOException 寫出時發生錯誤
+     */
+    public void write(Stream<? extends Object[]> rows, Appendable out) throws IOException {
+        write(rows.sequential().spliterator(), out);
+    }
+
+    /**
+     * 與 write(List, Appendable) 相同
+     * @param rows 各筆資料錄的欄位值；欄位數量須與 layout 相同
+     * @param out 欲寫出的目的地
+     * @throws IOException 寫出時發生錯誤
+     */
+    public void write(Spliterator<? extends Object[]> rows, Appendable out) throws IOException {
+        Window window = new Window(CHUNK_ROWS * CHUNKS_PER_THREAD * pool.getParallelism());
+        // 每個區段各自的 StringBuilder，於之後的視窗重複使用；依序寫出前須保留內容，因此無法由執行緒共用
+        StringBuilder[] chunks = new StringBuilder[chunkCount(window.rows.length)];
+        int lineWidth = layout.recordWidth() + lineSeparator.length();
+        while (window.fill(rows)) {
+            Object[][] batch = window.rows;
+            int size = window.size;
+            int chunkCount = chunkCount(size);
+            invoke(chunkCount, chunk -> {
+                int from = chunk * CHUNK_ROWS;
+                int to = Math.min(from + CHUNK_ROWS, size);
+                StringBuilder sb = chunks[chunk];
+                if (sb == null) {
+                    sb = new StringBuilder(lineWidth * CHUNK_ROWS);
+                    chunks[chunk] = sb;
+                }
+                sb.setLength(0);
+                for (int i = from; i < to; i++)
+                    layout.format(batch[i], sb).append(lineSeparator);
+            });
+            for (int i = 0; i < chunkCount; i++)
+                out.append(chunks[i]);
+        }
+    }
+
+    private static int chunkCount(int rows) {
+        return (rows + CHUNK_ROWS - 1) / CHUNK_ROWS;
+    }
+
+    private void invoke(int chunkCount, IntConsumer chunkFormatter) {
+        if (chunkCount == 1)
+            chunkFormatter.accept(0);
+        else if (chunkCount > 1)
+            pool.invoke(new ChunkTask(0, chunkCount, chunkFormatter));
+    }
+
+    /**
+     * 每次從輸入讀取的資料錄
+     */
+    private static final class Window implements Consumer<Object[]> {
+
+        final Object[][] rows;
+        int size;
+
+        Window(int capacity) {
+            this.rows = new Object[capacity][];
+        }
+
+        /**
+         * 清除上一次的資料錄後，讀取最多 capacity 筆
+         * @return 是否有讀取到資料錄
+         */
+        boolean fill(Spliterator<? extends Object[]> source) {
+            Arrays.fill(rows, 0, size, null);
+            size = 0;
+            while (size < rows.length) {
+                if (!source.tryAdvance(this))
+                    break;
+            }
+            return size > 0;
+        }
+
+        @Override
+        public void accept(Object[] row) {
+            rows[size++] = row;
+        }
+    }
+
+    /**
+     * 將區段索引值 from(包含) 至 to(不包含) 之間，對半分割成子工作，直到只剩一個區段
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final transient IntConsumer chunkFormatter;
+
+        ChunkTask(int from, int to, IntConsumer chunkFormatter) {
+            this.from = from;
+            this.to = to;
+            this.chunkFormatter = chunkFormatter;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                chunkFormatter.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, mid, chunkFormatter), new ChunkTask(mid, to, chunkFormatter));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 記住 slice(str, length, option, padChar) 結果的快取，適用於不同值不多的欄位(例如：狀態碼、分行名稱)。
+ * 以 (字串, 長度, 對齊方式, 補滿字元) 為鍵，結果與 StringUtils.slice 完全相同
+ *
+ * <p>快取分成多個分段(stripe)，各自以 LinkedHashMap 依存取順序排列，並以自己的鎖保護；
+ * 不同的鍵大多落在不同的分段，多個執行緒同時使用時很少互相等待。每個分段超過容量時，移除最久未使用(LRU)的項目，
+ * 因此總項目數不會超過 maximumSize；各分段容量的總和即為 maximumSize，且每個分段至少可保留 16 個項目(maximumSize 小於 16 時只有一個分段)。未命中時，在鎖之外計算結果
+ *
+ * <p>可在多個執行緒之間共用
+ */
+public final class CachedSlicer {
+
+    // 分段數的上限
+    private static final int MAX_STRIPES = 64;
+    // 每個分段至少可保留的項目數；分段太小時，雜湊分布稍有不均，即會在總數未達上限前移除項目
+    private static final int MIN_STRIPE_CAPACITY = 16;
+
+    private final WidthPolicy policy;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * 以預設方式(半形：1、全形：2)計算長度
+     * @param maximumSize 最多保留的項目數，須大於 0
+     */
+    public CachedSlicer(int maximumSize) {
+        this(maximumSize, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * @param maximumSize 最多保留的項目數，須大於 0
+     * @param policy 計算字元長度的方式
+     */
+    public CachedSlicer(int maximumSize, WidthPolicy policy) {
+        // 分段數約為處理器數的 4 倍
+        this(maximumSize, policy, Math.min(Runtime.getRuntime().availableProcessors() * 4, MAX_STRIPES));
+    }
+
+    /**
+     * @param maximumSize 最多保留的項目數，須大於 0
+     * @param policy 計算字元長度的方式
+     * @param stripeCount 分段數；實際使用不超過 stripeCount 與 maximumSize / 16 的 2 的次方(至少為 1)，
+     *                    maximumSize 平均分配至各分段，無法整除的部分由前面的分段各多保留 1 個
+     */
+    CachedSlicer(int maximumSize, WidthPolicy policy, int stripeCount) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        this.policy = policy;
+        int count = Integer.highestOneBit(Math.max(Math.min(stripeCount, maximumSize / MIN_STRIPE_CAPACITY), 1));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++)
+            stripes[i] = new Stripe(maximumSize / count + (i < maximumSize % count ? 1 : 0), evictions);
+        this.stripeMask = count - 1;
+    }
+
+    /**
+     * 與 StringUtils.slice(str, length, option, padChar) 相同，但相同的參數只計算一次
+     * @param str 欲切割處理的字串
+     * @param length 欲切割的長度
+     * @param option -1：左邊補滿；1：右邊補滿；0或其它：不補滿
+     * @param padChar 欲用來做補滿動作的字元
+     * @return 處理完成後的字串
+     */
+    public String slice(String str, int length, int option, char padChar) {
+        // 不補滿時，結果與補滿字元無關
+        if (option != -1 && option != 1) {
+            option = 0;
+            padChar = ' ';
+        }
+        Key key = new Key(str, length, option, padChar);
+        Stripe stripe = stripes[key.hash & stripeMask];
+        String result;
+        synchronized (stripe) {
+            result = stripe.get(key);
+        }
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+        misses.increment();
+        result = StringUtils.slice(str, length, option, padChar, policy);
+        synchronized (stripe) {
+            stripe.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * 與 StringUtils.sliceRPad(str, length) 相同，但相同的參數只計算一次
+     * @param str 欲處理的字串
+     * @param length 欲切割的總長度
+     * @return 切割後，右邊以半形空白補滿的字串
+     */
+    public String sliceRPad(String str, int length) {
+        return slice(str, length, 1, ' ');
+    }
+
+    /**
+     * 與 StringUtils.sliceLPad(str, length) 相同，但相同的參數只計算一次
+     * @param str 欲處理的字串
+     * @param length 欲切割的總長度
+     * @return 切割後，左邊以半形空白補滿的字串
+     */
+    public String sliceLPad(String str, int length) {
+        return slice(str, length, -1, ' ');
+    }
+
+    /**
+     * @return 計算字元長度的方式
+     */
+    public WidthPolicy widthPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return 命中快取的次數
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return 未命中快取、重新計算的次數
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return 因超過容量而移除的項目數
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return 命中率；尚未呼叫過時回傳 0
+     */
+    public double hitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * @return 目前保留的項目數
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 移除所有項目，並將統計數值歸零
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * 快取的鍵；建立時即計算雜湊值
+     */
+    private static final class Key {
+
+        final String str;
+        final int length;
+        final int option;
+        final char padChar;
+        final int hash;
+
+        Key(String str, int length, int option, char padChar) {
+            this.str = str;
+            this.length = length;
+            this.option = option;
+            this.padChar = padChar;
+            int h = str.hashCode();
+            h = 31 * h + length;
+            h = 31 * h + option;
+            h = 31 * h + padChar;
+            // 讓高位元影響分段的選擇
+            this.hash = h ^ (h >>> 16);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key other = (Key) o;
+            return hash == other.hash && length == other.length && option == other.option
+                    && padChar == other.padChar && str.equals(other.str);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * 單一分段：依存取順序排列，超過容量時移除最久未使用的項目。呼叫端須持有此物件的鎖
+     */
+    private static final class Stripe extends LinkedHashMap<Key, String> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private final transient LongAdder evictions;
+
+        Stripe(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+            if (size() <= capacity)
+                return false;
+            evictions.increment();
+            return true;
+        }
+    }
+}
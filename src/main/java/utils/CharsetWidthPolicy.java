@@ -0,0 +1,206 @@
+package utils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 以字元編碼後的位元組數，作為字元長度的 WidthPolicy(例如：MS950/Big5、Shift_JIS 中文字為 2 bytes)。
+ * 建立時預先將所有 BMP 字元編碼一次，存成 64K 的對照表；之後計算長度時只查表，不需建立任何 byte 陣列
+ *
+ * <p>無法編碼的字元，以該編碼替代字元的位元組數計算。surrogate pair 視為一個單位，長度為該碼位編碼後的位元組數
+ * (例如：UTF-8、GB18030 為 4，Big5-HKSCS 的 U+20021 為 2)；補充平面的長度，於第一次用到時，每 256 個碼位編碼一次。
+ * 單獨的 surrogate 字元，以替代字元的長度計算。
+ *
+ * <p>EBCDIC 混合編碼(例如：IBM937、IBM930)中，雙位元組字元前後的 SO/SI 控制碼不計入長度；
+ * 也就是只計算 DBCS 欄位(PIC G)中字元本身所佔的位元組數。
+ */
+public final class CharsetWidthPolicy implements WidthPolicy {
+
+    private static final byte SHIFT_OUT = 0x0E;
+    private static final byte SHIFT_IN = 0x0F;
+
+    // 補充平面的長度表，每個區塊的碼位數
+    private static final int SUPPLEMENTARY_BLOCK_SHIFT = 8;
+    private static final int SUPPLEMENTARY_BLOCK_SIZE = 1 << SUPPLEMENTARY_BLOCK_SHIFT;
+
+    private static final ConcurrentMap<Charset, CharsetWidthPolicy> CACHE = new ConcurrentHashMap<>();
+
+    private final Charset charset;
+    private final byte[] widths;
+    // 補充平面(U+10000-U+10FFFF)各區塊的長度表；尚未用到的區塊為 null
+    private final AtomicReferenceArray<byte[]> supplementaryBlocks = new AtomicReferenceArray<>(
+            (Character.MAX_CODE_POINT + 1 - Character.MIN_SUPPLEMENTARY_CODE_POINT) >> SUPPLEMENTARY_BLOCK_SHIFT);
+
+    private CharsetWidthPolicy(Charset charset) {
+        this.charset = charset;
+        this.widths = buildTable(charset);
+    }
+
+    /**
+     * 取得該編碼的 WidthPolicy；對照表只會建立一次，之後重複使用
+     * @param charset 字元編碼
+     * @return 該編碼的 WidthPolicy
+     * @throws IllegalArgumentException 該編碼不支援編碼時
+     */
+    public static CharsetWidthPolicy of(Charset charset) {
+        return CACHE.computeIfAbsent(charset, CharsetWidthPolicy::new);
+    }
+
+    /**
+     * @return MS950(Windows 繁體中文，Big5 的延伸)
+     */
+    public static CharsetWidthPolicy ms950() {
+        return of(Charset.forName("MS950"));
+    }
+
+    /**
+     * @return Big5
+     */
+    public static CharsetWidthPolicy big5() {
+        return of(Charset.forName("Big5"));
+    }
+
+    /**
+     * @return Shift_JIS
+     */
+    public static CharsetWidthPolicy shiftJis() {
+        return of(Charset.forName("Shift_JIS"));
+    }
+
+    /**
+     * @return IBM937(EBCDIC 繁體中文)，不計入 SO/SI
+     */
+    public static CharsetWidthPolicy ibm937() {
+        return of(Charset.forName("IBM937"));
+    }
+
+    /**
+     * @return IBM930(EBCDIC 日文)，不計入 SO/SI
+     */
+    public static CharsetWidthPolicy ibm930() {
+        return of(Charset.forName("IBM930"));
+    }
+
+    /**
+     * @return 此 WidthPolicy 所對應的字元編碼
+     */
+    public Charset charset() {
+        return charset;
+    }
+
+    @Override
+    public int widthOf(char character) {
+        return widths[character];
+    }
+
+    /**
+     * @param codePoint 欲檢查的碼位
+     * @return 該碼位編碼後的位元組數；無法編碼時為替代字元的位元組數
+     */
+    public int widthOf(int codePoint) {
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT)
+            return widths[codePoint];
+        int block = (codePoint - Character.MIN_SUPPLEMENTARY_CODE_POINT) >> SUPPLEMENTARY_BLOCK_SHIFT;
+        byte[] blockWidths = supplementaryBlocks.get(block);
+        if (blockWidths == null) {
+            // 多個執行緒同時建立時，結果相同，保留任一個即可
+            blockWidths = buildSupplementaryBlock(charset, codePoint & ~(SUPPLEMENTARY_BLOCK_SIZE - 1));
+            supplementaryBlocks.set(block, blockWidths);
+        }
+        return blockWidths[codePoint & (SUPPLEMENTARY_BLOCK_SIZE - 1)];
+    }
+
+    /**
+     * surrogate pair 為該碼位編碼後的位元組數，其餘為各字元長度的總和
+     */
+    @Override
+    public int widthOf(CharSequence str, int start, int end) {
+        if (end - start == 2) {
+            char high = str.charAt(start);
+            char low = str.charAt(start + 1);
+            if (Character.isSurrogatePair(high, low))
+                return widthOf(Character.toCodePoint(high, low));
+        }
+        int width = 0;
+        for (int i = start; i < end; i++)
+            width += widths[str.charAt(i)];
+        return width;
+    }
+
+    private static byte[] buildTable(Charset charset) {
+        if (!charset.canEncode())
+            throw new IllegalArgumentException("Charset does not support encoding: " + charset);
+        CharsetEncoder encoder = newEncoder(charset);
+        int replacement = encoder.replacement().length;
+        char[] in = new char[1];
+        CharBuffer chars = CharBuffer.wrap(in);
+        ByteBuffer bytes = ByteBuffer.allocate(16);
+        byte[] widths = new byte[Character.MAX_VALUE + 1];
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            if (Character.isSurrogate((char) c)) {
+                widths[c] = (byte) replacement;
+                continue;
+            }
+            in[0] = (char) c;
+            chars.clear();
+            widths[c] = (byte) encodedLength(encoder, chars, bytes, replacement);
+        }
+        return widths;
+    }
+
+    /**
+     * 編碼 first 開始的 SUPPLEMENTARY_BLOCK_SIZE 個補充平面碼位
+     */
+    private static byte[] buildSupplementaryBlock(Charset charset, int first) {
+        CharsetEncoder encoder = newEncoder(charset);
+        int replacement = encoder.replacement().length;
+        char[] in = new char[2];
+        CharBuffer chars = CharBuffer.wrap(in);
+        ByteBuffer bytes = ByteBuffer.allocate(16);
+        byte[] widths = new byte[SUPPLEMENTARY_BLOCK_SIZE];
+        for (int i = 0; i < widths.length; i++) {
+            Character.toChars(first + i, in, 0);
+            chars.clear();
+            widths[i] = (byte) encodedLength(encoder, chars, bytes, replacement);
+        }
+        return widths;
+    }
+
+    private static CharsetEncoder newEncoder(Charset charset) {
+        return charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+    }
+
+    /**
+     * @return chars 編碼後的位元組數(不含 SO/SI)；無法編碼時為 replacement
+     */
+    private static int encodedLength(CharsetEncoder encoder, CharBuffer chars, ByteBuffer bytes, int replacement) {
+        bytes.clear();
+        encoder.reset();
+        CoderResult result = encoder.encode(chars, bytes, true);
+        if (result.isError())
+            return replacement;
+        encoder.flush(bytes);
+        return lengthWithoutShift(bytes);
+    }
+
+    private static int lengthWithoutShift(ByteBuffer bytes) {
+        int length = bytes.position();
+        if (length >= 3 && bytes.get(0) == SHIFT_OUT && bytes.get(length - 1) == SHIFT_IN)
+            return length - 2;
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return "CharsetWidthPolicy{" + charset.name() + "}";
+    }
+}
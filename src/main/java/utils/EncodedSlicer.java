@@ -0,0 +1,409 @@
+package utils;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 直接對編碼後的位元組(byte[]、ByteBuffer)做切割、補滿，不需先解碼成 String 再編碼回去。
+ * 長度以解碼後的字元計算，與 StringUtils.widthOf 的預設方式(半形：1、全形：2)相同；切割位置一定在字元的邊界上。
+ * 對於可正確解碼的輸入，結果與「解碼 → StringUtils.slice → 編碼」完全相同
+ *
+ * <p>支援 UTF-8，以及 ASCII 相容、每個字元最多 2 bytes 的編碼(例如：MS950、Big5、GBK、EUC-KR)。
+ * UTF-8 依前導位元組判斷字元的位元組數，並由碼位計算長度；其他編碼在建立時以該編碼的解碼器，
+ * 將所有單一位元組與前導、後續位元組的組合解碼一次，存成對照表。
+ * 因此 MS950 中解碼為 U+00FF 以下的雙位元組字元(例如：±)，長度亦與 widthOf 相同為 1
+ *
+ * <p>無法解碼的位元組，每個位元組視為一個長度為 2 的字元(與替代字元 U+FFFD 相同)；
+ * 解碼器可能將多個位元組合併為一個替代字元，此時結果與解碼後再切割不同
+ *
+ * <p>建立後即不可變更，可在多個執行緒之間共用
+ */
+public final class EncodedSlicer {
+
+    private static final ConcurrentMap<Charset, EncodedSlicer> CACHE = new ConcurrentHashMap<>();
+
+    // 無法解碼的位元組，視為一個替代字元(U+FFFD)的長度
+    private static final int MALFORMED_WIDTH = 2;
+    // 補滿 direct buffer 時，每次寫入的最大位元組數
+    private static final int PAD_CHUNK = 64;
+
+    private final Charset charset;
+    private final boolean utf8;
+    // 單一位元組字元的長度；0 表示前導位元組或無法解碼
+    private final byte[] singleWidths;
+    // 以 (前導位元組 << 8 | 後續位元組) 為索引的雙位元組字元長度；0 表示無法解碼
+    private final byte[] pairWidths;
+
+    private EncodedSlicer(Charset charset) {
+        this.charset = charset;
+        this.utf8 = charset.equals(StandardCharsets.UTF_8);
+        if (utf8) {
+            this.singleWidths = null;
+            this.pairWidths = null;
+        } else {
+            this.singleWidths = new byte[256];
+            this.pairWidths = new byte[256 * 256];
+            buildTables(charset, singleWidths, pairWidths);
+        }
+    }
+
+    /**
+     * 取得該編碼的 EncodedSlicer；對照表只會建立一次，之後重複使用
+     * @param charset 字元編碼：UTF-8，或 ASCII 相容、每個字元最多 2 bytes 的編碼
+     * @return 該編碼的 EncodedSlicer
+     * @throws IllegalArgumentException 不支援該編碼時
+     */
+    public static EncodedSlicer of(Charset charset) {
+        return CACHE.computeIfAbsent(charset, EncodedSlicer::new);
+    }
+
+    /**
+     * @return UTF-8
+     */
+    public static EncodedSlicer utf8() {
+        return of(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return MS950(Windows 繁體中文，Big5 的延伸)
+     */
+    public static EncodedSlicer ms950() {
+        return of(Charset.forName("MS950"));
+    }
+
+    /**
+     * @return 字元編碼
+     */
+    public Charset charset() {
+        return charset;
+    }
+
+    private static void buildTables(Charset charset, byte[] singleWidths, byte[] pairWidths) {
+        if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() > 2)
+            throw new IllegalArgumentException("Unsupported charset: " + charset);
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        byte[] bytes = new byte[2];
+        for (int b = 0; b < 256; b++) {
+            bytes[0] = (byte) b;
+            String single = decode(decoder, bytes, 1);
+            // 補滿字元須以單一位元組寫出，ASCII 的部分須與 US-ASCII 相同
+            if (b < 0x80 && (single == null || single.length() != 1 || single.charAt(0) != b))
+                throw new IllegalArgumentException("Charset is not ASCII compatible: " + charset);
+            if (single != null) {
+                singleWidths[b] = (byte) StringUtils.widthOf(single);
+                continue;
+            }
+            for (int t = 0; t < 256; t++) {
+                bytes[1] = (byte) t;
+                String pair = decode(decoder, bytes, 2);
+                if (pair != null)
+                    pairWidths[b << 8 | t] = (byte) StringUtils.widthOf(pair);
+            }
+        }
+    }
+
+    /**
+     * @return 解碼後的字串；無法解碼時回傳 null
+     */
+    private static String decode(CharsetDecoder decoder, byte[] bytes, int length) {
+        try {
+            CharBuffer chars = decoder.reset().decode(ByteBuffer.wrap(bytes, 0, length));
+            return chars.length() == 0 ? null : chars.toString();
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 以預設方式(半形：1、全形：2)計算解碼後的總長度
+     * @param src 編碼後的位元組
+     * @return 總長度
+     */
+    public int widthOf(byte[] src) {
+        return widthOf(ByteBuffer.wrap(src));
+    }
+
+    /**
+     * 計算 src 剩餘內容(position 至 limit)解碼後的總長度；不會改變 src 的 position
+     * @param src 編碼後的位元組
+     * @return 總長度
+     */
+    public int widthOf(ByteBuffer src) {
+        int width = 0;
+        for (int i = src.position(), to = src.limit(); i < to; ) {
+            int unit = unitAt(src, i, to);
+            width += unit & 0xFF;
+            i += unit >>> 8;
+        }
+        return width;
+    }
+
+    /**
+     * 與 StringUtils.slice(str, length, includeCutChar) 相同的切割方式，回傳切割位置(不包含)的索引值
+     * @param src 編碼後的位元組
+     * @param from 開始的索引值(包含)
+     * @param to 結束的索引值(不包含)
+     * @param length 欲切割的長度(半形：1、全形：2)
+     * @param includeCutChar 是否包含未被完整切割的字元
+     * @return 切割位置的索引值；若長度不足以切割，則回傳 to
+     */
+    public int cutIndex(byte[] src, int from, int to, int length, boolean includeCutChar) {
+        return (int) (cut(ByteBuffer.wrap(src), from, to, length, includeCutChar) >>> 32);
+    }
+
+    /**
+     * 與 StringUtils.slice(str, length, includeCutChar) 相同
+     * @param src 編碼後的位元組
+     * @param length 欲切割的長度(半形：1、全形：2)
+     * @param includeCutChar 是否包含未被完整切割的字元
+     * @return 切割後的位元組
+     */
+    public byte[] slice(byte[] src, int length, boolean includeCutChar) {
+        return Arrays.copyOf(src, cutIndex(src, 0, src.length, length, includeCutChar));
+    }
+
+    /**
+     * 與 StringUtils.slice(str, length, option, padChar) 相同
+     * @param src 編碼後的位元組
+     * @param length 欲切割的長度(半形：1、全形：2)
+     * @param option -1：左邊補滿；1：右邊補滿；0或其它：不補滿
+     * @param padChar 欲用來做補滿動作的字元，須為 ASCII 字元
+     * @return 處理完成後的位元組
+     * @throws IllegalArgumentException padChar 不是 ASCII 字元時
+     * @throws ArithmeticException 補滿後的位元組數超過 int 的範圍
+     */
+    public byte[] slice(byte[] src, int length, int option, char padChar) {
+        checkPadChar(padChar);
+        long cut = cut(ByteBuffer.wrap(src), 0, src.length, length, false);
+        int end = (int) (cut >>> 32);
+        int padRound = padRoundOf(cut, length, option);
+        // 切割後即可得知結果的位元組數，只配置一次
+        byte[] dest = new byte[Math.addExact(end, padRound)];
+        if (option == -1) {
+            Arrays.fill(dest, 0, padRound, (byte) padChar);
+            System.arraycopy(src, 0, dest, padRound, end);
+        } else {
+            System.arraycopy(src, 0, dest, 0, end);
+            Arrays.fill(dest, end, dest.length, (byte) padChar);
+        }
+        return dest;
+    }
+
+    /**
+     * 以 slice(str, length, option, padChar) 的方式處理 src 中 from 至 to 的位元組，並直接寫入 dest 中
+     * @param src 編碼後的位元組
+     * @param from 開始的索引值(包含)
+     * @param to 結束的索引值(不包含)
+     * @param length 欲切割的長度(半形：1、全形：2)
+     * @param option -1：左邊補滿；1：右邊補滿；0或其它：不補滿
+     * @param padChar 欲用來做補滿動作的字元，須為 ASCII 字元
+     * @param dest 欲寫入結果的位元組陣列，剩餘空間須至少有 to - from 個位元組；補滿時須至少有 (to - from) + max(length, 0) 個位元組
+     * @param offset 開始寫入的索引值
+     * @return 寫入完成後，下一個可寫入位置的索引值
+     */
+    public int slice(byte[] src, int from, int to, int length, int option, char padChar, byte[] dest, int offset) {
+        ByteBuffer out = ByteBuffer.wrap(dest, offset, dest.length - offset);
+        slice(ByteBuffer.wrap(src, from, to - from), length, option, padChar, out);
+        return out.position();
+    }
+
+    /**
+     * 以 slice(str, length, option, padChar) 的方式處理 src 的剩餘內容(position 至 limit)，並直接寫入 dest 中。
+     * 處理後 src 的 position 移至 limit，dest 的 position 移至寫入內容之後
+     * @param src 編碼後的位元組
+     * @param length 欲切割的長度(半形：1、全形：2)
+     * @param option -1：左邊補滿；1：右邊補滿；0或其它：不補滿
+     * @param padChar 欲用來做補滿動作的字元，須為 ASCII 字元
+     * @param dest 欲寫入結果的 ByteBuffer，剩餘空間須至少有「切割後的位元組數 + 補滿的位元組數」個位元組；
+     *             src.remaining() 個位元組(補滿時為 src.remaining() + max(length, 0) 個位元組)即足夠
+     * @throws IllegalArgumentException padChar 不是 ASCII 字元時
+     * @throws java.nio.BufferOverflowException dest 的剩餘空間不足時；此時 src、dest 皆不會變動
+     */
+    public void slice(ByteBuffer src, int length, int option, char padChar, ByteBuffer dest) {
+        checkPadChar(padChar);
+        int from = src.position();
+        int to = src.limit();
+        long cut = cut(src, from, to, length, false);
+        int end = (int) (cut >>> 32);
+        int padRound = padRoundOf(cut, length, option);
+        // 寫入任何內容之前，先確認剩餘空間
+        if ((long) (end - from) + padRound > dest.remaining())
+            throw new BufferOverflowException();
+        if (option == -1)
+            pad(dest, (byte) padChar, padRound);
+        ByteBuffer head = src.duplicate();
+        head.limit(end);
+        dest.put(head);
+        if (option == 1)
+            pad(dest, (byte) padChar, padRound);
+        src.position(to);
+    }
+
+    /**
+     * 與 StringUtils.forEachSegment(str, length, includeCutChar, consumer) 相同的切割方式，
+     * 依序將 src 中 from 至 to 之間，每一段的起訖索引值交給 consumer
+     * @param src 編碼後的位元組
+     * @param from 開始的索引值(包含)
+     * @param to 結束的索引值(不包含)
+     * @param length 欲切割的長度(半形：1、全形：2)
+     * @param includeCutChar 每一次切割，是否包含該段末尾未被完整切割的字元
+     * @param consumer 接收每一段起訖索引值的 SegmentConsumer
+     */
+    public void forEachSegment(byte[] src, int from, int to, int length, boolean includeCutChar, SegmentConsumer consumer) {
+        ByteBuffer buffer = ByteBuffer.wrap(src);
+        int start = from;
+        while (length > 0 && start < to) {
+            int end = (int) (cut(buffer, start, to, length, includeCutChar) >>> 32);
+            // 長度不足以容納一個全形字元時，結束切割
+            if (end == start)
+                break;
+            consumer.accept(start, end);
+            start = end;
+        }
+    }
+
+    /**
+     * 與 StringUtils.split(str, length, includeCutChar) 相同
+     * @param src 編碼後的位元組
+     * @param length 欲切割的長度(半形：1、全形：2)
+     * @param includeCutChar 每一次切割，是否包含該段末尾未被完整切割的字元
+     * @return 切割後的各段位元組
+     */
+    public byte[][] split(byte[] src, int length, boolean includeCutChar) {
+        List<byte[]> segments = new ArrayList<>();
+        forEachSegment(src, 0, src.length, length, includeCutChar,
+                (start, end) -> segments.add(Arrays.copyOfRange(src, start, end)));
+        return segments.toArray(new byte[0][]);
+    }
+
+    /**
+     * 從 from 開始，依 StringUtils.cutIndex 的規則計算切割位置
+     * @return 高 32 位元為切割位置的索引值，低 32 位元為切割位置之前的總長度
+     */
+    private long cut(ByteBuffer src, int from, int to, int length, boolean includeCutChar) {
+        if (length <= 0)
+            return (long) from << 32;
+
+        int currentWidth = 0;
+        for (int i = from; i < to; ) {
+            int unit = unitAt(src, i, to);
+            int next = i + (unit >>> 8);
+            int width = currentWidth + (unit & 0xFF);
+            // 長度相等時
+            if (width == length)
+                return (long) next << 32 | width;
+            // 奇偶數問題
+            if (width > length)
+                return includeCutChar ? (long) next << 32 | width : (long) i << 32 | currentWidth;
+            currentWidth = width;
+            i = next;
+        }
+        // 長度不足以切割
+        return (long) to << 32 | currentWidth;
+    }
+
+    /**
+     * 索引值 i 開始的一個字元
+     * @return 高位元為字元的位元組數，低 8 位元為長度
+     */
+    private int unitAt(ByteBuffer src, int i, int to) {
+        int b = src.get(i);
+        // ASCII 在所有支援的編碼中皆為單一位元組
+        if (b >= 0)
+            return 1 << 8 | 1;
+        b &= 0xFF;
+        if (utf8)
+            return utf8UnitAt(src, b, i, to);
+        int width = singleWidths[b];
+        if (width != 0)
+            return 1 << 8 | width;
+        if (i + 1 < to) {
+            width = pairWidths[b << 8 | (src.get(i + 1) & 0xFF)];
+            if (width != 0)
+                return 2 << 8 | width;
+        }
+        return 1 << 8 | MALFORMED_WIDTH;
+    }
+
+    /**
+     * UTF-8 中，以前導位元組 lead 開始的一個字元；碼位 U+00FF 以下與日文半形字元的長度為 1，
+     * 其他 BMP 字元為 2，BMP 以外的字元(解碼後為 surrogate pair)為 4
+     */
+    private static int utf8UnitAt(ByteBuffer src, int lead, int i, int to) {
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            if (isContinuation(src, i + 1, to)) {
+                int codePoint = (lead & 0x1F) << 6 | (src.get(i + 1) & 0x3F);
+                return 2 << 8 | (codePoint <= 0xFF ? 1 : 2);
+            }
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            if (isContinuation(src, i + 1, to) && isContinuation(src, i + 2, to)) {
+                int second = src.get(i + 1) & 0xFF;
+                // 排除過長(overlong)的編碼與 surrogate
+                if ((lead != 0xE0 || second >= 0xA0) && (lead != 0xED || second <= 0x9F)) {
+                    int codePoint = (lead & 0x0F) << 12 | (second & 0x3F) << 6 | (src.get(i + 2) & 0x3F);
+                    return 3 << 8 | (codePoint >= 0xFF61 && codePoint <= 0xFF9F ? 1 : 2);
+                }
+            }
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            if (isContinuation(src, i + 1, to) && isContinuation(src, i + 2, to) && isContinuation(src, i + 3, to)) {
+                int second = src.get(i + 1) & 0xFF;
+                if ((lead != 0xF0 || second >= 0x90) && (lead != 0xF4 || second <= 0x8F))
+                    return 4 << 8 | 4;
+            }
+        }
+        return 1 << 8 | MALFORMED_WIDTH;
+    }
+
+    private static boolean isContinuation(ByteBuffer src, int i, int to) {
+        return i < to && (src.get(i) & 0xC0) == 0x80;
+    }
+
+    private static void checkPadChar(char padChar) {
+        if (padChar > 0x7F)
+            throw new IllegalArgumentException("Pad char must be ASCII: " + (int) padChar);
+    }
+
+    /**
+     * @param cut cut 方法的回傳值
+     * @return 補滿的位元組數；不補滿時為 0
+     */
+    private static int padRoundOf(long cut, int length, int option) {
+        return option == -1 || option == 1 ? Math.max(length - (int) cut, 0) : 0;
+    }
+
+    /**
+     * 寫入 padRound 個 padByte；呼叫端須先確認剩餘空間
+     */
+    private static void pad(ByteBuffer dest, byte padByte, int padRound) {
+        if (padRound <= 0)
+            return;
+        int position = dest.position();
+        if (dest.hasArray()) {
+            int start = dest.arrayOffset() + position;
+            Arrays.fill(dest.array(), start, start + padRound, padByte);
+            dest.position(position + padRound);
+            return;
+        }
+        // direct buffer：每次最多寫入 PAD_CHUNK 個位元組
+        byte[] chunk = new byte[Math.min(padRound, PAD_CHUNK)];
+        Arrays.fill(chunk, padByte);
+        while (padRound > 0) {
+            int n = Math.min(padRound, chunk.length);
+            dest.put(chunk, 0, n);
+            padRound -= n;
+        }
+    }
+}
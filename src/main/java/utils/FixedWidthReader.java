@@ -0,0 +1,235 @@
+package utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 以記憶體映射(memory-mapped)的方式讀取固定長度資料錄的檔案，並依 RecordLayout 的欄位長度(半形：1、全形：2)切割欄位；
+ * 每筆資料錄以 "\n" 或 "\r\n" 分隔，讀取時不會為每筆資料錄建立字串。此類別不是執行緒安全(thread-safe)的
+ *
+ * <pre>
+ * try (FixedWidthReader reader = FixedWidthReader.open(path, layout, charset)) {
+ *     while (reader.next()) {
+ *         reader.appendField(0, sb);
+ *     }
+ * }
+ * </pre>
+ */
+public final class FixedWidthReader implements Closeable {
+
+    // 每次映射的檔案區段大小
+    private static final long DEFAULT_WINDOW_SIZE = 1L << 26;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final FileChannel channel;
+    private final RecordLayout layout;
+    private final CharsetDecoder decoder;
+    private final long size;
+    private final long windowSize;
+    private final int[] starts;
+    private final int[] ends;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private boolean windowDrained;
+    private boolean endOfInput;
+
+    // 已解碼的字元存放於 buf[0, limit)；目前資料錄為 buf[lineStart, lineEnd)
+    private char[] buf;
+    private CharBuffer chars;
+    private CharBuffer lineView;
+    private int limit;
+    private int lineStart;
+    private int lineEnd;
+    private int scanPos;
+    private int nextLineStart;
+
+    /**
+     * @param channel 欲讀取的 FileChannel
+     * @param layout 資料錄的欄位配置
+     * @param charset 檔案的編碼；無法解碼的位元組，以替代字元取代
+     * @throws IOException 讀取檔案大小失敗時
+     */
+    public FixedWidthReader(FileChannel channel, RecordLayout layout, Charset charset) throws IOException {
+        this(channel, layout, charset, DEFAULT_WINDOW_SIZE, 1 << 16);
+    }
+
+    FixedWidthReader(FileChannel channel, RecordLayout layout, Charset charset, long windowSize, int bufferSize) throws IOException {
+        this.channel = channel;
+        this.layout = layout;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        this.starts = new int[layout.fieldCount()];
+        this.ends = new int[layout.fieldCount()];
+        this.buf = new char[bufferSize];
+        this.chars = CharBuffer.wrap(buf);
+        this.lineView = CharBuffer.wrap(buf);
+    }
+
+    /**
+     * 以唯讀方式開啟檔案
+     * @param path 檔案路徑
+     * @param layout 資料錄的欄位配置
+     * @param charset 檔案的編碼
+     * @return FixedWidthReader
+     * @throws IOException 開啟檔案失敗時
+     */
+    public static FixedWidthReader open(Path path, RecordLayout layout, Charset charset) throws IOException {
+        return new FixedWidthReader(FileChannel.open(path, StandardOpenOption.READ), layout, charset);
+    }
+
+    /**
+     * 移至下一筆資料錄，並切割其欄位
+     * @return 若已無資料錄，則回傳 false
+     * @throws IOException 讀取失敗時
+     */
+    public boolean next() throws IOException {
+        lineStart = nextLineStart;
+        while (true) {
+            int newline = indexOfNewline(scanPos, limit);
+            if (newline >= 0) {
+                setLine(lineStart, newline);
+                nextLineStart = scanPos = newline + 1;
+                return true;
+            }
+            scanPos = limit;
+            if (!fill()) {
+                if (lineStart >= limit)
+                    return false;
+                // 最後一筆資料錄，沒有分隔字元
+                setLine(lineStart, limit);
+                nextLineStart = scanPos = limit;
+                return true;
+            }
+        }
+    }
+
+    private int indexOfNewline(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buf[i] == '\n')
+                return i;
+        }
+        return -1;
+    }
+
+    private void setLine(int start, int end) {
+        if (end > start && buf[end - 1] == '\r')
+            end--;
+        lineStart = start;
+        lineEnd = end;
+        lineView.limit(end).position(start);
+        layout.bounds(lineView, starts, ends);
+    }
+
+    /**
+     * 解碼更多字元至 buf[limit, ...)
+     * @return 若已無可解碼的資料，則回傳 false
+     */
+    private boolean fill() throws IOException {
+        compact();
+        if (limit == buf.length)
+            grow();
+        chars.limit(buf.length).position(limit);
+        while (chars.position() == limit) {
+            if (window == null || windowDrained) {
+                long position = window == null ? 0 : windowStart + window.position();
+                if (position >= size) {
+                    if (!endOfInput) {
+                        endOfInput = true;
+                        decoder.decode(EMPTY, chars, true);
+                        decoder.flush(chars);
+                    }
+                    break;
+                }
+                windowStart = position;
+                window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, size - position));
+                windowDrained = false;
+            }
+            boolean last = windowStart + window.limit() == size;
+            CoderResult result = decoder.decode(window, chars, last);
+            if (result.isOverflow())
+                break;
+            // 區段末尾可能殘留不完整的字元，由下一個區段重新映射
+            windowDrained = true;
+        }
+        boolean filled = chars.position() > limit;
+        limit = chars.position();
+        return filled;
+    }
+
+    private void compact() {
+        if (lineStart == 0)
+            return;
+        System.arraycopy(buf, lineStart, buf, 0, limit - lineStart);
+        limit -= lineStart;
+        scanPos -= lineStart;
+        nextLineStart -= lineStart;
+        lineEnd -= lineStart;
+        lineStart = 0;
+    }
+
+    private void grow() {
+        buf = Arrays.copyOf(buf, buf.length * 2);
+        chars = CharBuffer.wrap(buf);
+        lineView = CharBuffer.wrap(buf);
+    }
+
+    /**
+     * @return 欄位數量
+     */
+    public int fieldCount() {
+        return starts.length;
+    }
+
+    /**
+     * @return 目前資料錄(不含分隔字元)的檢視；內容於呼叫 next() 之後即失效
+     */
+    public CharSequence line() {
+        return CharBuffer.wrap(buf, lineStart, lineEnd - lineStart);
+    }
+
+    /**
+     * @param index 欄位索引值
+     * @return 目前資料錄中，該欄位(去除補滿字元後)的檢視，不複製字元；內容於呼叫 next() 之後即失效
+     */
+    public CharSequence field(int index) {
+        return CharBuffer.wrap(buf, lineStart + starts[index], ends[index] - starts[index]);
+    }
+
+    /**
+     * 將目前資料錄中，該欄位(去除補滿字元後)的內容，附加至所提供的 StringBuilder 之後
+     * @param index 欄位索引值
+     * @param sb 欲附加結果的 StringBuilder
+     * @return 所提供的 StringBuilder
+     */
+    public StringBuilder appendField(int index, StringBuilder sb) {
+        return sb.append(buf, lineStart + starts[index], ends[index] - starts[index]);
+    }
+
+    /**
+     * @param index 欄位索引值
+     * @return 目前資料錄中，該欄位(去除補滿字元後)的字元數
+     */
+    public int fieldLength(int index) {
+        return ends[index] - starts[index];
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
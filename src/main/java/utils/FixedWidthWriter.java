@@ -0,0 +1,144 @@
+package utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+
+/**
+ * 依 RecordLayout 將資料錄格式化，並直接編碼至可重複使用的 ByteBuffer，再寫入 Channel；
+ * 不會為每筆資料錄建立字串。此類別不是執行緒安全(thread-safe)的
+ */
+public final class FixedWidthWriter implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final RecordLayout layout;
+    private final String lineSeparator;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer bytes;
+    private final StringBuilder record;
+    private boolean closed;
+
+    /**
+     * @param channel 欲寫入的 Channel
+     * @param layout 資料錄的欄位配置
+     * @param charset 輸出的編碼；無法編碼的字元，以該編碼的替代字元輸出
+     * @param lineSeparator 每筆資料錄之後附加的分隔字串；可為空字串
+     * @param bufferSize ByteBuffer 的大小
+     */
+    public FixedWidthWriter(WritableByteChannel channel, RecordLayout layout, Charset charset, String lineSeparator, int bufferSize) {
+        this.channel = channel;
+        this.layout = layout;
+        this.lineSeparator = lineSeparator;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes = ByteBuffer.allocateDirect(Math.max(bufferSize, (int) Math.ceil(encoder.maxBytesPerChar()) * 16));
+        this.record = new StringBuilder(layout.recordWidth() + lineSeparator.length());
+    }
+
+    /**
+     * 開啟(或覆寫)檔案，以 "\n" 分隔每筆資料錄
+     * @param path 檔案路徑
+     * @param layout 資料錄的欄位配置
+     * @param charset 輸出的編碼
+     * @return FixedWidthWriter
+     * @throws IOException 開啟檔案失敗時
+     */
+    public static FixedWidthWriter open(Path path, RecordLayout layout, Charset charset) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new FixedWidthWriter(channel, layout, charset, "\n", DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * 寫入一筆資料錄
+     * @param values 各欄位的值，數量須與欄位數量相同；null 視為空字串
+     * @throws IOException 寫入失敗時
+     */
+    public void write(Object... values) throws IOException {
+        record.setLength(0);
+        layout.format(values, record);
+        encodeRecord();
+    }
+
+    /**
+     * 以欄位索引值取值的方式，寫入一筆資料錄
+     * @param accessor 依欄位索引值，回傳該欄位的值；null 視為空字串
+     * @throws IOException 寫入失敗時
+     */
+    public void write(IntFunction<?> accessor) throws IOException {
+        record.setLength(0);
+        layout.format(accessor, record);
+        encodeRecord();
+    }
+
+    private void encodeRecord() throws IOException {
+        ensureOpen();
+        record.append(lineSeparator);
+        // 直接由 StringBuilder 編碼，不另外複製字元
+        encode(CharBuffer.wrap(record), false);
+    }
+
+    private void encode(CharBuffer in, boolean endOfInput) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(in, bytes, endOfInput);
+            if (result.isOverflow())
+                flushBuffer();
+            else if (result.isUnderflow())
+                return;
+            else
+                result.throwException();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining())
+            channel.write(bytes);
+        bytes.clear();
+    }
+
+    /**
+     * 將緩衝區中已編碼的資料，寫入 Channel
+     * @throws IOException 寫入失敗時
+     */
+    public void flush() throws IOException {
+        ensureOpen();
+        flushBuffer();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed)
+            throw new IOException("Writer is closed");
+    }
+
+    /**
+     * 結束編碼、寫入剩餘的資料後，關閉 Channel
+     * @throws IOException 寫入或關閉失敗時
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed)
+            return;
+        try {
+            encode(CharBuffer.wrap(""), true);
+            while (encoder.flush(bytes).isOverflow())
+                flushBuffer();
+            flushBuffer();
+        } finally {
+            closed = true;
+            channel.close();
+        }
+    }
+}
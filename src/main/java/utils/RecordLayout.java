@@ -0,0 +1,238 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * 固定長度(Fixed-width)資料錄的欄位配置。每個欄位包含長度(半形：1、全形：2)、對齊方式、以及補滿字元；
+ * 以 Builder 建立後即不可變更，可在多個執行緒之間共用。長度的計算方式，可以 Builder.widthPolicy 指定
+ */
+public final class RecordLayout {
+
+    private final int[] widths;
+    private final int[] options;
+    private final char[] padChars;
+    private final WidthPolicy policy;
+    private final int recordWidth;
+
+    private RecordLayout(int[] widths, int[] options, char[] padChars, WidthPolicy policy) {
+        this.widths = widths;
+        this.options = options;
+        this.padChars = padChars;
+        this.policy = policy;
+        int total = 0;
+        for (int width : widths)
+            total += width;
+        this.recordWidth = total;
+    }
+
+    /**
+     * @return 新的 Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return 欄位數量
+     */
+    public int fieldCount() {
+        return widths.length;
+    }
+
+    /**
+     * @return 整筆資料錄的總長度(半形：1、全形：2)
+     */
+    public int recordWidth() {
+        return recordWidth;
+    }
+
+    /**
+     * @return 計算長度的方式
+     */
+    public WidthPolicy widthPolicy() {
+        return policy;
+    }
+
+    /**
+     * @param index 欄位索引值
+     * @return 該欄位的長度(半形：1、全形：2)
+     */
+    public int width(int index) {
+        return widths[index];
+    }
+
+    /**
+     * @param index 欄位索引值
+     * @return 該欄位的對齊方式(-1：左邊補滿、1：右邊補滿、0或其它：不補滿)
+     */
+    public int option(int index) {
+        return options[index];
+    }
+
+    /**
+     * @param index 欄位索引值
+     * @return 該欄位的補滿字元
+     */
+    public char padChar(int index) {
+        return padChars[index];
+    }
+
+    /**
+     * 將一筆資料錄格式化後回傳
+     * @param values 各欄位的值，數量須與欄位數量相同；null 視為空字串
+     * @return 格式化後的資料錄
+     */
+    public String format(Object... values) {
+        return format(values, new StringBuilder(recordWidth)).toString();
+    }
+
+    /**
+     * 將一筆資料錄格式化後，附加至所提供的 StringBuilder 之後；StringBuilder 可於每筆資料錄重複使用
+     * @param values 各欄位的值，數量須與欄位數量相同；null 視為空字串
+     * @param sb 欲附加結果的 StringBuilder
+     * @return 所提供的 StringBuilder
+     */
+    public StringBuilder format(Object[] values, StringBuilder sb) {
+        if (values.length != widths.length)
+            throw new IllegalArgumentException("Expected " + widths.length + " values but got " + values.length);
+        for (int i = 0; i < widths.length; i++)
+            appendField(sb, i, values[i]);
+        return sb;
+    }
+
+    /**
+     * 以欄位索引值取值的方式，將一筆資料錄格式化後，附加至所提供的 StringBuilder 之後
+     * @param accessor 依欄位索引值，回傳該欄位的值；null 視為空字串
+     * @param sb 欲附加結果的 StringBuilder
+     * @return 所提供的 StringBuilder
+     */
+    public StringBuilder format(IntFunction<?> accessor, StringBuilder sb) {
+        for (int i = 0; i < widths.length; i++)
+            appendField(sb, i, accessor.apply(i));
+        return sb;
+    }
+
+    private void appendField(StringBuilder sb, int index, Object value) {
+        String str = value == null ? "" : value.toString();
+        StringUtils.appendSlice(sb, str, widths[index], options[index], padChars[index], policy);
+    }
+
+    /**
+     * 將固定長度的資料錄，依各欄位的長度(半形：1、全形：2)切割；並且，去除各欄位依對齊方式所補滿的字元
+     * @param line 欲切割的資料錄
+     * @return 各欄位的值
+     */
+    public String[] parse(String line) {
+        int[] starts = new int[widths.length];
+        int[] ends = new int[widths.length];
+        bounds(line, starts, ends);
+        String[] fields = new String[widths.length];
+        for (int i = 0; i < widths.length; i++)
+            fields[i] = line.substring(starts[i], ends[i]);
+        return fields;
+    }
+
+    /**
+     * 與 parse(line) 相同的切割方式，但不建立任何字串；只將各欄位(去除補滿字元後)的起訖索引值，寫入所提供的陣列中
+     * @param line 欲切割的資料錄
+     * @param starts 各欄位的開始索引值(包含)，長度須至少為欄位數量
+     * @param ends 各欄位的結束索引值(不包含)，長度須至少為欄位數量
+     */
+    public void bounds(CharSequence line, int[] starts, int[] ends) {
+        int start = 0;
+        for (int i = 0; i < widths.length; i++) {
+            int end = StringUtils.cutIndex(line, start, widths[i], false, policy);
+            starts[i] = options[i] == -1 ? skipPad(line, start, end, padChars[i]) : start;
+            ends[i] = options[i] == 1 ? skipPadBackward(line, start, end, padChars[i]) : end;
+            start = end;
+        }
+    }
+
+    /**
+     * @return 由 start 往後，第一個不是補滿字元的索引值
+     */
+    private static int skipPad(CharSequence line, int start, int end, char padChar) {
+        while (start < end && line.charAt(start) == padChar)
+            start++;
+        return start;
+    }
+
+    /**
+     * @return 由 end 往前，最後一個不是補滿字元之後的索引值
+     */
+    private static int skipPadBackward(CharSequence line, int start, int end, char padChar) {
+        while (end > start && line.charAt(end - 1) == padChar)
+            end--;
+        return end;
+    }
+
+    @Override
+    public String toString() {
+        return "RecordLayout{widths=" + Arrays.toString(widths) + ", options=" + Arrays.toString(options) + "}";
+    }
+
+    /**
+     * 依序加入欄位，建立 RecordLayout
+     */
+    public static final class Builder {
+
+        private int[] widths = new int[8];
+        private int[] options = new int[8];
+        private char[] padChars = new char[8];
+        private WidthPolicy policy = WidthPolicy.DEFAULT;
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * 加入一個以半形空白補滿的欄位
+         * @param width 欄位長度(半形：1、全形：2)，須大於 0
+         * @param option -1：左邊補滿；1：右邊補滿；0或其它：不補滿
+         * @return 此 Builder
+         */
+        public Builder field(int width, int option) {
+            return field(width, option, ' ');
+        }
+
+        /**
+         * 加入一個欄位
+         * @param width 欄位長度(半形：1、全形：2)，須大於 0
+         * @param option -1：左邊補滿；1：右邊補滿；0或其它：不補滿
+         * @param padChar 補滿字元
+         * @return 此 Builder
+         */
+        public Builder field(int width, int option, char padChar) {
+            if (width <= 0)
+                throw new IllegalArgumentException("Field width must be positive: " + width);
+            if (size == widths.length) {
+                widths = Arrays.copyOf(widths, size * 2);
+                options = Arrays.copyOf(options, size * 2);
+                padChars = Arrays.copyOf(padChars, size * 2);
+            }
+            widths[size] = width;
+            options[size] = option;
+            padChars[size] = padChar;
+            size++;
+            return this;
+        }
+
+        /**
+         * 指定計算長度的方式；未指定時，使用 WidthPolicy.DEFAULT
+         * @param policy 計算字元長度的方式
+         * @return 此 Builder
+         */
+        public Builder widthPolicy(WidthPolicy policy) {
+            this.policy = policy;
+            return this;
+        }
+
+        /**
+         * @return 不可變更的 RecordLayout
+         */
+        public RecordLayout build() {
+            return new RecordLayout(Arrays.copyOf(widths, size), Arrays.copyOf(options, size), Arrays.copyOf(padChars, size), policy);
+        }
+    }
+}
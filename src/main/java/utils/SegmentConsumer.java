@@ -0,0 +1,14 @@
+package utils;
+
+/**
+ * 接收切割後每一段的起訖索引值；用於 StringUtils.forEachSegment，不需建立任何字串
+ */
+@FunctionalInterface
+public interface SegmentConsumer {
+
+    /**
+     * @param start 該段的開始索引值(包含)
+     * @param end 該段的結束索引值(不包含)
+     */
+    void accept(int start, int end);
+}
@@ -1,19 +1,33 @@
 package utils;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class StringUtils {
 
-    // 半形字元 Unicode 區間
-    private static final String halfWidthRange = "\u0000-\u00FF";
-    // 日文半形字元 Unicode 區間
-    private static final String halfWidthKana = "\uFF61-\uFF9F";
-    // 組合
-    private static final String regex = "[" + halfWidthRange + halfWidthKana + "]";
-    private static final Pattern pattern = Pattern.compile(regex);
+    // 半形字元 Unicode 區間：\u0000-\u00FF
+    private static final char HALF_WIDTH_END = '\u00FF';
+    // 日文半形字元 Unicode 區間：\uFF61-\uFF9F
+    private static final char HALF_WIDTH_KANA_START = '\uFF61';
+    private static final char HALF_WIDTH_KANA_END = '\uFF9F';
+
+    // 批次檢查半形字元時，每組的字元數；以及整組檢查失敗後，最多逐字元計算的字元數
+    private static final int BLOCK = 8;
+    private static final int MAX_SCALAR_RUN = 256;
+
+    // 批次 Padding 時，每次寫入的最大字元數
+    private static final int PAD_CHUNK = 64;
+    // U+0000-U+00FF 的補滿字元，各自重複 PAD_CHUNK 次的字串；第一次使用時建立(String 不可變更，可安全地共用)
+    private static final String[] PAD_CHUNKS = new String[HALF_WIDTH_END + 1];
 
     /**
      * 檢查字元，是否為半形、或全形字元。若是半形字元，則回傳 1；不然，則回傳 2
@@ -30,22 +44,116 @@ public class StringUtils {
      * @return 總長度(半形：1；全形：2)
      */
     public static int widthOf(String str) {
+        return widthOf(str, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 以所提供的 WidthPolicy，檢查字串的總長度
+     * @param str 欲檢查的字串
+     * @param policy 計算字元長度的方式
+     * @return 總長度
+     */
+    public static int widthOf(String str, WidthPolicy policy) {
+        return widthOf(str, 0, str.length(), policy);
+    }
+
+    /**
+     * 檢查字串中，索引值 from(包含) 至 to(不包含) 之間的總長度
+     * @param str 欲檢查的字串
+     * @param from 開始的索引值(包含)
+     * @param to 結束的索引值(不包含)
+     * @param policy 計算字元長度的方式
+     * @return 總長度
+     */
+    static int widthOf(CharSequence str, int from, int to, WidthPolicy policy) {
+        if (policy == WidthPolicy.DEFAULT)
+            return defaultWidthOf(str, from, to);
+
         int widths = 0;
-        for(int i = 0; i < str.length(); i++){
-            widths += checkWidthOf(str.charAt(i));
+        // 以字元為單位時，逐字元計算；與 cutIndex 相同，surrogate pair 以 widthOf(str, start, end) 計算
+        if (policy.isCharBased()) {
+            for (int i = from; i < to; ) {
+                char c = str.charAt(i);
+                if (Character.isHighSurrogate(c)) {
+                    int next = Math.min(policy.unitEnd(str, i), to);
+                    widths += policy.widthOf(str, i, next);
+                    i = next;
+                } else {
+                    widths += policy.widthOf(c);
+                    i++;
+                }
+            }
+            return widths;
+        }
+        for(int i = from; i < to; ){
+            int next = policy.unitEnd(str, i);
+            widths += policy.widthOf(str, i, next);
+            i = next;
         }
         return widths;
     }
 
+    /**
+     * 以預設方式計算總長度：每 8 個字元為一組，整組皆為 U+0000-U+00FF 的半形字元時，一次累加；
+     * 遇到含有全形字元的組別，則改為逐字元計算一段字元後，再重新整組檢查
+     */
+    private static int defaultWidthOf(CharSequence str, int from, int to) {
+        int i = halfWidthPrefixEnd(str, from, to);
+        int widths = i - from;
+        int blockEnd = to - BLOCK;
+        int scalarRun = BLOCK;
+        while (i < to) {
+            int runStart = i;
+            while (i <= blockEnd && isHalfWidthBlock(str, i))
+                i += BLOCK;
+            widths += i - runStart;
+            scalarRun = nextScalarRun(scalarRun, i > runStart);
+            for (int scalarEnd = Math.min(i + scalarRun, to); i < scalarEnd; i++)
+                widths += checkWidthOf(str.charAt(i));
+        }
+        return widths;
+    }
+
+    /**
+     * 回傳從 from 開始，連續半形字元(U+0000-U+00FF)結束的索引值。
+     * 只以單一比較逐字元檢查，當字串以 Latin-1 儲存時，JIT 可將整個迴圈化簡
+     */
+    private static int halfWidthPrefixEnd(CharSequence str, int from, int to) {
+        int i = from;
+        while (i < to && str.charAt(i) <= HALF_WIDTH_END)
+            i++;
+        return i;
+    }
+
+    /**
+     * 整組檢查失敗之後，逐字元計算的字元數：連續失敗時加倍，避免全形字元為主的字串反覆整組檢查
+     */
+    private static int nextScalarRun(int scalarRun, boolean skipped) {
+        return skipped ? BLOCK : Math.min(scalarRun << 1, MAX_SCALAR_RUN);
+    }
+
+    /**
+     * 檢查從 index 開始的 8 個字元，是否皆落在 U+0000-U+00FF 的區間。
+     * 將所有字元做 OR 運算後只比較一次，不需逐字元分支
+     */
+    private static boolean isHalfWidthBlock(CharSequence str, int index) {
+        int bits = str.charAt(index) | str.charAt(index + 1) | str.charAt(index + 2) | str.charAt(index + 3)
+                | str.charAt(index + 4) | str.charAt(index + 5) | str.charAt(index + 6) | str.charAt(index + 7);
+        return bits <= HALF_WIDTH_END;
+    }
+
     /**
      * 檢查字元，是否為半形、或全形字元。若是半形字元，則回傳 1；不然，則回傳 2
      * @param character 欲檢查的字元
      * @return 半形：1；全形 2
      */
     private static int checkWidthOf(char character) {
-        Matcher matcher = pattern.matcher(String.valueOf(character));
         // 符合半形字元 Unicode 區間，則回傳 1；不然，則回傳 2
-        return matcher.matches() ? 1 : 2;
+        // 以區間比較取代正規表示式，不需建立任何 String、Matcher 物件；
+        // 區間比較改以差值的符號位元計算，半形、全形交錯的字串不會因分支預測失敗而變慢
+        int wide = (HALF_WIDTH_END - character) >>> 31;
+        int notKana = ((character - HALF_WIDTH_KANA_START) | (HALF_WIDTH_KANA_END - character)) >>> 31;
+        return 1 + (wide & notKana);
     }
 
     /**
@@ -66,21 +174,101 @@ public class StringUtils {
      * @return 切割後的字串
      */
     public static String slice(String str, int length, boolean includeCutChar) {
-        if (length <= 0)
-            return "";
+        return slice(str, length, includeCutChar, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 與 slice(str, length, includeCutChar) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲切割的字串
+     * @param length 欲切割的長度
+     * @param includeCutChar 是否包含未被完整切割的字元
+     * @param policy 計算字元長度的方式
+     * @return 切割後的字串
+     */
+    public static String slice(String str, int length, boolean includeCutChar, WidthPolicy policy) {
+        int end = length <= 0 ? 0 : cutIndex(str, 0, length, includeCutChar, policy);
+        if (StringUtilsMetrics.enabled)
+            recordCut(StringUtilsMetrics.Operation.SLICE, str, 0, end, length, policy);
+        return str.substring(0, end);
+    }
+
+    /**
+     * 從 from 的位置開始，以 policy 計算長度，回傳切割位置(不包含)的索引值
+     * @param str 欲切割的字串
+     * @param from 開始計算長度的索引值
+     * @param length 欲切割的長度，須大於 0
+     * @param includeCutChar 是否包含未被完整切割的字元
+     * @param policy 計算字元長度的方式
+     * @return 切割位置的索引值；若長度不足以切割，則回傳字串長度
+     */
+    static int cutIndex(CharSequence str, int from, int length, boolean includeCutChar, WidthPolicy policy) {
+        if (policy == WidthPolicy.DEFAULT)
+            return defaultCutIndex(str, from, length, includeCutChar);
 
         int currentWidth = 0;
-        for (int i = 0; i < str.length(); i++) {
-            currentWidth += widthOf(str.charAt(i));
+        boolean charBased = policy.isCharBased();
+        for (int i = from; i < str.length(); ) {
+            // 以單位(surrogate pair、字素叢集)為最小切割範圍
+            int next;
+            char c = str.charAt(i);
+            if (charBased && !Character.isHighSurrogate(c)) {
+                next = i + 1;
+                currentWidth += policy.widthOf(c);
+            } else {
+                next = policy.unitEnd(str, i);
+                currentWidth += policy.widthOf(str, i, next);
+            }
             // 長度相等時
             if (currentWidth == length)
-                return str.substring(0, i + 1);
+                return next;
             // 奇偶數問題
             if (currentWidth > length)
-                return includeCutChar ? str.substring(0, i + 1) : str.substring(0, i);
+                return includeCutChar ? next : i;
+            i = next;
         }
         // str.equals("") OR width的長度 > str的Width
-        return str;
+        return str.length();
+    }
+
+    /**
+     * 以預設方式計算切割位置：與 defaultWidthOf 相同，整組的半形字元一次略過，直到剩餘長度不足一組為止
+     */
+    private static int defaultCutIndex(CharSequence str, int from, int length, boolean includeCutChar) {
+        int strLength = str.length();
+        int i = halfWidthPrefixEnd(str, from, length < strLength - from ? from + length : strLength);
+        int currentWidth = i - from;
+        if (currentWidth == length)
+            return i;
+        int blockEnd = strLength - BLOCK;
+        int scalarRun = BLOCK;
+        while (i < strLength) {
+            int runStart = i;
+            int room = length - currentWidth - BLOCK;
+            int blockLimit = room < blockEnd - i ? i + room : blockEnd;
+            while (i <= blockLimit && isHalfWidthBlock(str, i))
+                i += BLOCK;
+            currentWidth += i - runStart;
+            if (currentWidth == length)
+                return i;
+            scalarRun = nextScalarRun(scalarRun, i > runStart);
+            for (int scalarEnd = Math.min(i + scalarRun, strLength); i < scalarEnd; ) {
+                char c = str.charAt(i);
+                int next = i + 1;
+                currentWidth += checkWidthOf(c);
+                // surrogate pair 視為一個單位
+                if (Character.isHighSurrogate(c) && next < strLength && Character.isLowSurrogate(str.charAt(next)))
+                    currentWidth += checkWidthOf(str.charAt(next++));
+                // 長度相等時
+                if (currentWidth == length)
+                    return next;
+                // 奇偶數問題
+                if (currentWidth > length)
+                    return includeCutChar ? next : i;
+                i = next;
+            }
+        }
+        // str.equals("") OR width的長度 > str的Width
+        return strLength;
     }
 
     /**
@@ -94,8 +282,27 @@ public class StringUtils {
      */
     public static String slice(String str, int afterWidth, int slicingWidth, boolean includeFirstCutChar, boolean includeSecondCutChar)
     {
-        String subStr = tailStringOfSliced(str, afterWidth, !includeFirstCutChar);
-        return slice(subStr, slicingWidth, includeSecondCutChar);
+        return slice(str, afterWidth, slicingWidth, includeFirstCutChar, includeSecondCutChar, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 與 slice(str, afterWidth, slicingWidth, includeFirstCutChar, includeSecondCutChar) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲切割的字串
+     * @param afterWidth 從多少長度之後開始切割
+     * @param slicingWidth 欲切割多少長度的字串
+     * @param includeFirstCutChar afterWidth 的長度計算，是否包含若未被完整切割的字元
+     * @param includeSecondCutChar 新切割好的字串，是否包含末尾未被完整切割的字元
+     * @param policy 計算字元長度的方式
+     * @return 切割後的字串
+     */
+    public static String slice(String str, int afterWidth, int slicingWidth, boolean includeFirstCutChar, boolean includeSecondCutChar, WidthPolicy policy)
+    {
+        // 兩次切割皆直接在 str 上計算，不建立中間字串，並且只記錄一次
+        int start = afterWidth <= 0 ? 0 : cutIndex(str, 0, afterWidth, !includeFirstCutChar, policy);
+        int end = slicingWidth <= 0 ? start : cutIndex(str, start, slicingWidth, includeSecondCutChar, policy);
+        if (StringUtilsMetrics.enabled)
+            recordCut(StringUtilsMetrics.Operation.SLICE, str, start, end, slicingWidth, policy);
+        return str.substring(start, end);
     }
 
     /**
@@ -106,8 +313,23 @@ public class StringUtils {
      * @return 切割後剩餘的字串
      */
     public static String tailStringOfSliced(String str, int length, boolean includeCutChar) {
-        String headString = slice(str, length, includeCutChar);
-        return headString.length() < str.length() ? str.substring(headString.length()) : "";
+        return tailStringOfSliced(str, length, includeCutChar, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 與 tailStringOfSliced(str, length, includeCutChar) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲切割的字串
+     * @param length 欲切割的字串長度
+     * @param includeCutChar 被切割的字串，是否要包含為末尾末被完整切割的字元
+     * @param policy 計算字元長度的方式
+     * @return 切割後剩餘的字串
+     */
+    public static String tailStringOfSliced(String str, int length, boolean includeCutChar, WidthPolicy policy) {
+        int end = length <= 0 ? 0 : cutIndex(str, 0, length, includeCutChar, policy);
+        // 回傳的是字串尾端，不計為截斷
+        if (StringUtilsMetrics.enabled)
+            StringUtilsMetrics.record(StringUtilsMetrics.Operation.SLICE, str.length());
+        return end < str.length() ? str.substring(end) : "";
     }
 
     public static String[] split(String str, int length) {
@@ -122,22 +344,121 @@ public class StringUtils {
      * @return 切割處理後的字串陣列
      */
     public static String[] split(String str, int length, boolean includeCutChar)
+    {
+        return split(str, length, includeCutChar, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 與 split(str, length, includeCutChar) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲切割的字串
+     * @param length 欲切割的字串長度
+     * @param includeCutChar 每一次切割，是否包含該段末尾未被完整切割的字元
+     * @param policy 計算字元長度的方式
+     * @return 切割處理後的字串陣列
+     */
+    public static String[] split(String str, int length, boolean includeCutChar, WidthPolicy policy)
     {
         List<String> strList = new ArrayList<>();
-        String tailString = str;
-        String currentString = "";
-        while (tailString.length() > 0 && currentString.length() != tailString.length())
-        {
-            currentString = tailString;
-            String slicedStr = slice(tailString, length, includeCutChar);
-            if(!slicedStr.equals(""))
-                strList.add(slice(tailString, length, includeCutChar));
-            tailString = tailStringOfSliced(tailString, length, includeCutChar);
-        }
+        forEachSegment(str, length, includeCutChar, policy, (start, end) -> strList.add(str.substring(start, end)));
         String[] strings = new String[strList.size()];
         return strList.toArray(strings);
     }
 
+    /**
+     * 與 split(str, length) 相同的切割方式，但不建立任何字串；依序將每一段的起訖索引值交給 consumer
+     * @param str 欲切割的字串
+     * @param length 欲切割的字串長度
+     * @param consumer 接收每一段起訖索引值的 SegmentConsumer
+     */
+    public static void forEachSegment(String str, int length, SegmentConsumer consumer) {
+        forEachSegment(str, length, false, WidthPolicy.DEFAULT, consumer);
+    }
+
+    /**
+     * 與 split(str, length, includeCutChar) 相同的切割方式，但不建立任何字串；依序將每一段的起訖索引值交給 consumer
+     * @param str 欲切割的字串
+     * @param length 欲切割的字串長度
+     * @param includeCutChar 每一次切割，是否包含該段末尾未被完整切割的字元
+     * @param consumer 接收每一段起訖索引值的 SegmentConsumer
+     */
+    public static void forEachSegment(String str, int length, boolean includeCutChar, SegmentConsumer consumer) {
+        forEachSegment(str, length, includeCutChar, WidthPolicy.DEFAULT, consumer);
+    }
+
+    /**
+     * 與 forEachSegment(str, length, includeCutChar, consumer) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲切割的字串
+     * @param length 欲切割的字串長度
+     * @param includeCutChar 每一次切割，是否包含該段末尾未被完整切割的字元
+     * @param policy 計算字元長度的方式
+     * @param consumer 接收每一段起訖索引值的 SegmentConsumer
+     */
+    public static void forEachSegment(String str, int length, boolean includeCutChar, WidthPolicy policy, SegmentConsumer consumer) {
+        // 只走訪字串一次，記錄每段的切割位置
+        int start = 0;
+        while (length > 0 && start < str.length())
+        {
+            int end = cutIndex(str, start, length, includeCutChar, policy);
+            // 長度不足以容納一個全形字元時，結束切割
+            if (end == start)
+                break;
+            consumer.accept(start, end);
+            start = end;
+        }
+        if (StringUtilsMetrics.enabled)
+            StringUtilsMetrics.record(StringUtilsMetrics.Operation.SPLIT, str.length(), start, length > 0);
+    }
+
+    /**
+     * 與 split(str, length, includeCutChar) 相同的切割方式，但每次呼叫 next 時才切割下一段。
+     * 每一段皆為原字串的 CharBuffer 檢視(view)，不會複製字元；需要 String 時，再呼叫 toString
+     * @param str 欲切割的字串
+     * @param length 欲切割的字串長度
+     * @param includeCutChar 每一次切割，是否包含該段末尾未被完整切割的字元
+     * @return 依序回傳每一段的 Iterator
+     */
+    public static Iterator<CharSequence> segmentIterator(String str, int length, boolean includeCutChar) {
+        return segmentIterator(str, length, includeCutChar, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 與 segmentIterator(str, length, includeCutChar) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲切割的字串
+     * @param length 欲切割的字串長度
+     * @param includeCutChar 每一次切割，是否包含該段末尾未被完整切割的字元
+     * @param policy 計算字元長度的方式
+     * @return 依序回傳每一段的 Iterator
+     */
+    public static Iterator<CharSequence> segmentIterator(String str, int length, boolean includeCutChar, WidthPolicy policy) {
+        return new SegmentIterator(str, length, includeCutChar, policy);
+    }
+
+    /**
+     * 與 segmentIterator(str, length, includeCutChar) 相同，以循序的 Stream 回傳每一段
+     * @param str 欲切割的字串
+     * @param length 欲切割的字串長度
+     * @param includeCutChar 每一次切割，是否包含該段末尾未被完整切割的字元
+     * @return 每一段的 Stream
+     */
+    public static Stream<CharSequence> segments(String str, int length, boolean includeCutChar) {
+        return segments(str, length, includeCutChar, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 與 segments(str, length, includeCutChar) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲切割的字串
+     * @param length 欲切割的字串長度
+     * @param includeCutChar 每一次切割，是否包含該段末尾未被完整切割的字元
+     * @param policy 計算字元長度的方式
+     * @return 每一段的 Stream
+     */
+    public static Stream<CharSequence> segments(String str, int length, boolean includeCutChar, WidthPolicy policy) {
+        Spliterator<CharSequence> spliterator = Spliterators.spliteratorUnknownSize(
+                segmentIterator(str, length, includeCutChar, policy),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+
     /**
      * 以所選擇的長度，切割輸入的字串後，做字串補滿的動作(Padding)
      * @param str 欲切割處理的字串。
@@ -164,17 +485,242 @@ public class StringUtils {
      * @return 處理完成後的字串。
      */
     public static String slice(String str, int length, int option, char padChar) {
-        String subString = slice(str, length, false);
-        switch (option) {
-            case -1:
-                return leftPad(subString, length, padChar);
-            case 1:
-                return rightPad(subString, length, padChar);
-            default:
-                return subString;
+        return slice(str, length, option, padChar, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 與 slice(str, length, option, padChar) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲切割處理的字串。
+     * @param length 欲切割的長度。
+     * @param option 切割完成後的字串，是否需要做補滿的動作？
+     *               -1：左邊補滿。
+     *               1：右邊補滿。
+     *               0或其它：不補滿。
+     * @param padChar 欲用來做補滿動作的字元。
+     * @param policy 計算字元長度的方式
+     * @return 處理完成後的字串。
+     */
+    public static String slice(String str, int length, int option, char padChar, WidthPolicy policy) {
+        if (option != -1 && option != 1)
+            return slice(str, length, false, policy);
+        // 預先配置足夠的容量，只建立一次字串
+        StringBuilder sb = new StringBuilder(Math.max(length, 0));
+        return appendSlice(sb, str, length, option, padChar, policy).toString();
+    }
+
+    /**
+     * 以 slice(str, length, option, padChar) 的方式處理字串，並直接附加至所提供的 StringBuilder 之後，不建立任何中間字串
+     * @param sb 欲附加結果的 StringBuilder
+     * @param str 欲切割處理的字串。
+     * @param length 欲切割的長度，以半形、全形計算(半形：1，全形：2)。
+     * @param option 切割完成後的字串，是否需要做補滿的動作？
+     *               -1：左邊補滿。
+     *               1：右邊補滿。
+     *               0或其它：不補滿。
+     * @param padChar 欲用來做補滿動作的字元。
+     * @return 所提供的 StringBuilder
+     */
+    public static StringBuilder appendSlice(StringBuilder sb, String str, int length, int option, char padChar) {
+        return appendSlice(sb, str, length, option, padChar, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 與 appendSlice(sb, str, length, option, padChar) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param sb 欲附加結果的 StringBuilder
+     * @param str 欲切割處理的字串。
+     * @param length 欲切割的長度。
+     * @param option 切割完成後的字串，是否需要做補滿的動作？
+     *               -1：左邊補滿。
+     *               1：右邊補滿。
+     *               0或其它：不補滿。
+     * @param padChar 欲用來做補滿動作的字元。
+     * @param policy 計算字元長度的方式
+     * @return 所提供的 StringBuilder
+     */
+    public static StringBuilder appendSlice(StringBuilder sb, String str, int length, int option, char padChar, WidthPolicy policy) {
+        int end = length <= 0 ? 0 : cutIndex(str, 0, length, false, policy);
+        if (StringUtilsMetrics.enabled)
+            recordCut(StringUtilsMetrics.Operation.SLICE_PAD, str, 0, end, length, policy);
+        int padRound = padRoundOf(str, end, length, option, policy);
+        if (option == -1)
+            appendPad(sb, padChar, padRound);
+        sb.append(str, 0, end);
+        if (option == 1)
+            appendPad(sb, padChar, padRound);
+        return sb;
+    }
+
+    /**
+     * 以 slice(str, length, option, padChar) 的方式處理字串，並直接附加至所提供的 Appendable(例如：Writer) 之後
+     * @param out 欲附加結果的 Appendable
+     * @param str 欲切割處理的字串。
+     * @param length 欲切割的長度，以半形、全形計算(半形：1，全形：2)。
+     * @param option 切割完成後的字串，是否需要做補滿的動作？
+     *               -1：左邊補滿。
+     *               1：右邊補滿。
+     *               0或其它：不補滿。
+     * @param padChar 欲用來做補滿動作的字元。
+     * @return 所提供的 Appendable
+     * @throws IOException Appendable 寫入失敗時
+     */
+    public static Appendable appendSlice(Appendable out, String str, int length, int option, char padChar) throws IOException {
+        return appendSlice(out, str, length, option, padChar, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 與 appendSlice(out, str, length, option, padChar) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param out 欲附加結果的 Appendable
+     * @param str 欲切割處理的字串。
+     * @param length 欲切割的長度。
+     * @param option 切割完成後的字串，是否需要做補滿的動作？
+     *               -1：左邊補滿。
+     *               1：右邊補滿。
+     *               0或其它：不補滿。
+     * @param padChar 欲用來做補滿動作的字元。
+     * @param policy 計算字元長度的方式
+     * @return 所提供的 Appendable
+     * @throws IOException Appendable 寫入失敗時
+     */
+    public static Appendable appendSlice(Appendable out, String str, int length, int option, char padChar, WidthPolicy policy) throws IOException {
+        if (out instanceof StringBuilder)
+            return appendSlice((StringBuilder) out, str, length, option, padChar, policy);
+
+        int end = length <= 0 ? 0 : cutIndex(str, 0, length, false, policy);
+        if (StringUtilsMetrics.enabled)
+            recordCut(StringUtilsMetrics.Operation.SLICE_PAD, str, 0, end, length, policy);
+        int padRound = padRoundOf(str, end, length, option, policy);
+        if (option == -1)
+            appendPad(out, padChar, padRound);
+        out.append(str, 0, end);
+        if (option == 1)
+            appendPad(out, padChar, padRound);
+        return out;
+    }
+
+    /**
+     * 以 slice(str, length, option, padChar) 的方式處理字串，並直接寫入所提供的字元陣列中
+     * @param str 欲切割處理的字串。
+     * @param length 欲切割的長度，以半形、全形計算(半形：1，全形：2)。
+     * @param option 切割完成後的字串，是否需要做補滿的動作？
+     *               -1：左邊補滿。
+     *               1：右邊補滿。
+     *               0或其它：不補滿。
+     * @param padChar 欲用來做補滿動作的字元。
+     * @param dest 欲寫入結果的字元陣列，剩餘空間須至少有 max(length, 0) 個字元
+     * @param offset 開始寫入的索引值
+     * @return 寫入完成後，下一個可寫入位置的索引值
+     * @throws IndexOutOfBoundsException dest 的剩餘空間不足時；此時不會寫入任何字元
+     */
+    public static int slice(String str, int length, int option, char padChar, char[] dest, int offset) {
+        return slice(str, length, option, padChar, dest, offset, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 與 slice(str, length, option, padChar, dest, offset) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲切割處理的字串。
+     * @param length 欲切割的長度。
+     * @param option 切割完成後的字串，是否需要做補滿的動作？
+     *               -1：左邊補滿。
+     *               1：右邊補滿。
+     *               0或其它：不補滿。
+     * @param padChar 欲用來做補滿動作的字元。
+     * @param dest 欲寫入結果的字元陣列，剩餘空間須至少有「切割後的字元數 + 補滿的字元數」個字元。
+     *             每個字元長度皆至少為 1 時(例如：WidthPolicy.DEFAULT、CharsetWidthPolicy)，max(length, 0) 個字元即足夠；
+     *             有長度為 0 的字元時(例如：TerminalWidthPolicy 的組合字元)，字元數可能超過 length
+     * @param offset 開始寫入的索引值
+     * @param policy 計算字元長度的方式
+     * @return 寫入完成後，下一個可寫入位置的索引值
+     * @throws IndexOutOfBoundsException dest 的剩餘空間不足時；此時不會寫入任何字元
+     */
+    public static int slice(String str, int length, int option, char padChar, char[] dest, int offset, WidthPolicy policy) {
+        int end = length <= 0 ? 0 : cutIndex(str, 0, length, false, policy);
+        if (StringUtilsMetrics.enabled)
+            recordCut(StringUtilsMetrics.Operation.SLICE_PAD, str, 0, end, length, policy);
+        int padRound = padRoundOf(str, end, length, option, policy);
+        if (offset < 0 || offset > dest.length || end + padRound > dest.length - offset)
+            throw new IndexOutOfBoundsException("Destination too small: " + (end + padRound) + " chars at offset "
+                    + offset + ", array length " + dest.length);
+        if (option == -1) {
+            Arrays.fill(dest, offset, offset + padRound, padChar);
+            offset += padRound;
+        }
+        str.getChars(0, end, dest, offset);
+        offset += end;
+        if (option == 1) {
+            Arrays.fill(dest, offset, offset + padRound, padChar);
+            offset += padRound;
+        }
+        return offset;
+    }
+
+    /**
+     * 記錄一次從 from 開始、切割至 end 的操作；切割位置之後仍有字元，且已切割的長度小於 length 時，
+     * 表示捨棄了未被完整切割的字元
+     */
+    private static void recordCut(StringUtilsMetrics.Operation operation, String str, int from, int end, int length,
+                                  WidthPolicy policy) {
+        boolean cutCharDropped = end < str.length() && length > 0 && widthOf(str, from, end, policy) < length;
+        StringUtilsMetrics.record(operation, str.length(), end, cutCharDropped);
+    }
+
+    /**
+     * 計算切割至 end 之後，需要補滿的字元數
+     * @param str 欲切割處理的字串
+     * @param end 切割位置的索引值
+     * @param length 欲切割的長度
+     * @param option -1 或 1 時才需要補滿
+     * @param policy 計算字元長度的方式
+     * @return 需要補滿的字元數；不需補滿時回傳 0
+     */
+    private static int padRoundOf(String str, int end, int length, int option, WidthPolicy policy) {
+        if (option != -1 && option != 1)
+            return 0;
+        return Math.max(length - widthOf(str, 0, end, policy), 0);
+    }
+
+    /**
+     * 將 padRound 個 ch 字元，每次最多 PAD_CHUNK 個，批次附加至 StringBuilder 之後
+     */
+    private static void appendPad(StringBuilder sb, char ch, int padRound) {
+        if (padRound <= 0)
+            return;
+        String chunk = padChunk(ch, padRound);
+        sb.ensureCapacity(sb.length() + padRound);
+        while (padRound > 0) {
+            int n = Math.min(padRound, chunk.length());
+            sb.append(chunk, 0, n);
+            padRound -= n;
         }
     }
-    
+
+    /**
+     * 將 padRound 個 ch 字元，每次最多 PAD_CHUNK 個，批次附加至 Appendable 之後
+     */
+    private static void appendPad(Appendable out, char ch, int padRound) throws IOException {
+        if (padRound <= 0)
+            return;
+        String chunk = padChunk(ch, padRound);
+        while (padRound > 0) {
+            int n = Math.min(padRound, chunk.length());
+            out.append(chunk, 0, n);
+            padRound -= n;
+        }
+    }
+
+    /**
+     * 回傳由 ch 組成的字串，長度至少為 min(padRound, PAD_CHUNK)；U+00FF 以下的字元重複使用已建立的字串
+     */
+    private static String padChunk(char ch, int padRound) {
+        if (ch > HALF_WIDTH_END)
+            return String.valueOf(ch).repeat(Math.min(padRound, PAD_CHUNK));
+        String chunk = PAD_CHUNKS[ch];
+        if (chunk == null) {
+            chunk = String.valueOf(ch).repeat(PAD_CHUNK);
+            PAD_CHUNKS[ch] = chunk;
+        }
+        return chunk;
+    }
+
     /**
      * 以 slice(str, length, false) 方法，切割後的字串；使用 Right Padding 處理字串後，回傳
      * @param str 欲處理的字串
@@ -183,8 +729,7 @@ public class StringUtils {
      */
     public static String sliceRPad(String str, int length)
     {
-        String subString = slice(str, length, false);
-        return rightPad(subString, length, ' ');
+        return slice(str, length, 1, ' ');
     }
 
     /**
@@ -196,8 +741,20 @@ public class StringUtils {
      */
     public static String sliceRPad(String str, int length, char ch)
     {
-        String subString = slice(str, length, false);
-        return rightPad(subString, length, ch);
+        return slice(str, length, 1, ch);
+    }
+
+    /**
+     * 與 sliceRPad(str, length, ch) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲處理的字串
+     * @param length 欲切割的總長度
+     * @param ch 欲 Padding 的字元
+     * @param policy 計算字元長度的方式
+     * @return 切割後的字串，以 Right Padding 處理後，回傳
+     */
+    public static String sliceRPad(String str, int length, char ch, WidthPolicy policy)
+    {
+        return slice(str, length, 1, ch, policy);
     }
 
     /**
@@ -208,8 +765,7 @@ public class StringUtils {
      */
     public static String sliceLPad(String str, int length)
     {
-        String subString = slice(str, length, false);
-        return leftPad(subString, length, ' ');
+        return slice(str, length, -1, ' ');
     }
 
     /**
@@ -221,8 +777,20 @@ public class StringUtils {
      */
     public static String sliceLPad(String str, int length, char ch)
     {
-        String subString = slice(str, length, false);
-        return leftPad(subString, length, ch);
+        return slice(str, length, -1, ch);
+    }
+
+    /**
+     * 與 sliceLPad(str, length, ch) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲處理的字串
+     * @param length 欲切割的總長度
+     * @param ch 欲 Padding 的字元
+     * @param policy 計算字元長度的方式
+     * @return 切割後的字串，以 Left Padding 處理後，回傳
+     */
+    public static String sliceLPad(String str, int length, char ch, WidthPolicy policy)
+    {
+        return slice(str, length, -1, ch, policy);
     }
 
     /**
@@ -244,14 +812,27 @@ public class StringUtils {
      */
     public static String leftPad(String str, int length, char ch)
     {
-        int padRound = length - widthOf(str);
-        StringBuilder sb = new StringBuilder();
-        while(padRound > 0)
-        {
-            sb.append(ch);
-            padRound--;
-        }
-        return sb + str;
+        return leftPad(str, length, ch, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 與 leftPad(str, length, ch) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲加工處理的字串
+     * @param length 預期的字串總長度
+     * @param ch 欲用來 Padding 的字元
+     * @param policy 計算字元長度的方式
+     * @return 處理後的字串
+     */
+    public static String leftPad(String str, int length, char ch, WidthPolicy policy)
+    {
+        if (StringUtilsMetrics.enabled)
+            StringUtilsMetrics.record(StringUtilsMetrics.Operation.PAD, str.length());
+        int padRound = length - widthOf(str, policy);
+        if (padRound <= 0)
+            return str;
+        StringBuilder sb = new StringBuilder(str.length() + padRound);
+        appendPad(sb, ch, padRound);
+        return sb.append(str).toString();
     }
 
     /**
@@ -274,14 +855,74 @@ public class StringUtils {
      */
     public static String rightPad(String str, int length, char ch)
     {
-        int padRound = length - widthOf(str);
-        StringBuilder sb = new StringBuilder();
-        while(padRound > 0)
-        {
-            sb.append(ch);
-            padRound--;
+        return rightPad(str, length, ch, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * 與 rightPad(str, length, ch) 相同，但以所提供的 WidthPolicy 計算長度
+     * @param str 欲加工處理的字串
+     * @param length 預期的字串總長度
+     * @param ch 欲用來 Padding 的字元
+     * @param policy 計算字元長度的方式
+     * @return 處理後的字串
+     */
+    public static String rightPad(String str, int length, char ch, WidthPolicy policy)
+    {
+        if (StringUtilsMetrics.enabled)
+            StringUtilsMetrics.record(StringUtilsMetrics.Operation.PAD, str.length());
+        int padRound = length - widthOf(str, policy);
+        if (padRound <= 0)
+            return str;
+        StringBuilder sb = new StringBuilder(str.length() + padRound);
+        sb.append(str);
+        appendPad(sb, ch, padRound);
+        return sb.toString();
+    }
+
+    /**
+     * 每次呼叫 next 時，才計算下一段的切割位置
+     */
+    private static final class SegmentIterator implements Iterator<CharSequence> {
+
+        private final String str;
+        private final int length;
+        private final boolean includeCutChar;
+        private final WidthPolicy policy;
+        private int start;
+        // 下一段的結束索引值；-1 表示尚未計算
+        private int end = -1;
+        private boolean finished;
+
+        SegmentIterator(String str, int length, boolean includeCutChar, WidthPolicy policy) {
+            this.str = str;
+            this.length = length;
+            this.includeCutChar = includeCutChar;
+            this.policy = policy;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (end < 0)
+                end = length <= 0 || start >= str.length() ? start : cutIndex(str, start, length, includeCutChar, policy);
+            // 長度不足以容納一個全形字元時，結束切割
+            if (end > start)
+                return true;
+            // 走訪完畢時，記錄一次切割
+            if (!finished && StringUtilsMetrics.enabled)
+                StringUtilsMetrics.record(StringUtilsMetrics.Operation.SPLIT, str.length(), start, length > 0);
+            finished = true;
+            return false;
+        }
+
+        @Override
+        public CharSequence next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            CharSequence segment = CharBuffer.wrap(str, start, end);
+            start = end;
+            end = -1;
+            return segment;
         }
-        return str + sb;
     }
 
 }
@@ -0,0 +1,261 @@
+package utils;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StringUtils 的使用統計，預設為關閉。關閉時，StringUtils 每次呼叫只多讀取一次 volatile 欄位；
+ * 開啟後，依操作類型記錄呼叫次數、輸入字串的字元數與其分布、被截斷的次數及捨棄的字元數
+ *
+ * <p>計數器皆為 LongAdder，多個執行緒同時呼叫時不會互相競爭；取得快照時不會暫停計數，
+ * 因此快照中的各項數值，可能分別包含或不包含正在進行中的呼叫
+ *
+ * <p>被截斷：切割後，字串尾端有字元未被包含。其中，因長度不足以容納完整的字元(例如：剩下 1 的長度，
+ * 下一個字元為全形)而捨棄的次數，另外記錄為 cutCharDrops
+ */
+public final class StringUtilsMetrics {
+
+    /**
+     * 統計的操作類型
+     */
+    public enum Operation {
+        /**
+         * slice(str, length, includeCutChar)、區間 slice、option 不為 -1、1 的 slice，以及 tailStringOfSliced；
+         * 每次公開方法的呼叫只記錄一次。tailStringOfSliced 回傳字串的尾端，只記錄呼叫次數與輸入字元數，不計為截斷
+         */
+        SLICE("slice"),
+        /** 切割後補滿：option 為 -1、1 的 slice(str, length, option, padChar)、appendSlice、sliceRPad、sliceLPad，以及 RecordLayout 的各欄位 */
+        SLICE_PAD("slicePad"),
+        /** split、forEachSegment、segmentIterator、segments；每次切割整個字串記錄一次，segmentIterator、segments 於走訪完畢時記錄 */
+        SPLIT("split"),
+        /** leftPad、rightPad */
+        PAD("pad");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        /**
+         * @return 快照中，此操作各項數值的名稱前綴
+         */
+        public String key() {
+            return key;
+        }
+    }
+
+    /**
+     * 在平台 MBeanServer 註冊時使用的名稱
+     */
+    public static final String OBJECT_NAME = "utils:type=StringUtilsMetrics";
+
+    // 輸入字元數分布的區間數：0、1、2-3、4-7 ... 以 2 的次方分隔，最後一個區間包含 65536 以上所有的長度
+    static final int BUCKETS = 18;
+
+    static volatile boolean enabled;
+
+    private static final Counters[] COUNTERS = new Counters[Operation.values().length];
+
+    static {
+        for (Operation operation : Operation.values())
+            COUNTERS[operation.ordinal()] = new Counters();
+    }
+
+    private StringUtilsMetrics() {
+    }
+
+    /**
+     * 開始記錄；不會清除先前的數值
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * 停止記錄；不會清除先前的數值
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * @return 是否正在記錄
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 將所有數值歸零
+     */
+    public static void reset() {
+        for (Counters counters : COUNTERS)
+            counters.reset();
+    }
+
+    /**
+     * 依操作類型，回傳目前的各項數值。名稱為「操作.項目」，例如：slice.calls、slice.truncations；
+     * 輸入字元數的分布，名稱為「操作.length.le上限」，例如：slice.length.le7 為 4 至 7 個字元的呼叫次數，
+     * 最後一個區間為「操作.length.gt下限」
+     * @return 不可變更的 Map，依操作類型、項目排序
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (Operation operation : Operation.values())
+            COUNTERS[operation.ordinal()].snapshot(operation.key(), values);
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * @param operation 操作類型
+     * @return 記錄期間的呼叫次數
+     */
+    public static long calls(Operation operation) {
+        return COUNTERS[operation.ordinal()].calls.sum();
+    }
+
+    /**
+     * @param operation 操作類型
+     * @return 記錄期間被截斷的次數
+     */
+    public static long truncations(Operation operation) {
+        return COUNTERS[operation.ordinal()].truncations.sum();
+    }
+
+    /**
+     * @param operation 操作類型
+     * @return 記錄期間因截斷而捨棄的字元數
+     */
+    public static long droppedChars(Operation operation) {
+        return COUNTERS[operation.ordinal()].droppedChars.sum();
+    }
+
+    /**
+     * 在平台 MBeanServer 註冊，名稱為 OBJECT_NAME；已註冊時不做任何事
+     * @return 註冊的名稱
+     * @throws IllegalStateException 註冊失敗時
+     */
+    public static ObjectName registerMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                try {
+                    server.registerMBean(new MXBeanImpl(), name);
+                } catch (InstanceAlreadyExistsException e) {
+                    // 其他執行緒已註冊
+                }
+            }
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * 記錄一次切割；只在 enabled 時由 StringUtils 呼叫
+     * @param operation 操作類型
+     * @param inputLength 輸入字串的字元數
+     * @param end 切割位置的索引值
+     * @param cutCharDropped 是否因長度不足以容納完整的字元，而捨棄該字元
+     */
+    static void record(Operation operation, int inputLength, int end, boolean cutCharDropped) {
+        Counters counters = COUNTERS[operation.ordinal()];
+        counters.calls.increment();
+        counters.inputChars.add(inputLength);
+        counters.lengths[bucketOf(inputLength)].increment();
+        if (end < inputLength) {
+            counters.truncations.increment();
+            counters.droppedChars.add(inputLength - end);
+            if (cutCharDropped)
+                counters.cutCharDrops.increment();
+        }
+    }
+
+    /**
+     * 記錄一次不會截斷的操作(例如：leftPad)
+     */
+    static void record(Operation operation, int inputLength) {
+        record(operation, inputLength, inputLength, false);
+    }
+
+    static int bucketOf(int length) {
+        return Math.min(32 - Integer.numberOfLeadingZeros(length), BUCKETS - 1);
+    }
+
+    /**
+     * 單一操作類型的計數器
+     */
+    private static final class Counters {
+
+        final LongAdder calls = new LongAdder();
+        final LongAdder inputChars = new LongAdder();
+        final LongAdder truncations = new LongAdder();
+        final LongAdder droppedChars = new LongAdder();
+        final LongAdder cutCharDrops = new LongAdder();
+        final LongAdder[] lengths = new LongAdder[BUCKETS];
+
+        Counters() {
+            for (int i = 0; i < lengths.length; i++)
+                lengths[i] = new LongAdder();
+        }
+
+        void reset() {
+            calls.reset();
+            inputChars.reset();
+            truncations.reset();
+            droppedChars.reset();
+            cutCharDrops.reset();
+            for (LongAdder length : lengths)
+                length.reset();
+        }
+
+        void snapshot(String prefix, Map<String, Long> values) {
+            values.put(prefix + ".calls", calls.sum());
+            values.put(prefix + ".inputChars", inputChars.sum());
+            values.put(prefix + ".truncations", truncations.sum());
+            values.put(prefix + ".droppedChars", droppedChars.sum());
+            values.put(prefix + ".cutCharDrops", cutCharDrops.sum());
+            for (int i = 0; i < BUCKETS - 1; i++)
+                values.put(prefix + ".length.le" + ((1 << i) - 1), lengths[i].sum());
+            values.put(prefix + ".length.gt" + ((1 << (BUCKETS - 2)) - 1), lengths[BUCKETS - 1].sum());
+        }
+    }
+
+    /**
+     * JMX 介面的實作，委派至 StringUtilsMetrics 的靜態方法
+     */
+    private static final class MXBeanImpl implements StringUtilsMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return StringUtilsMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            if (enabled)
+                enable();
+            else
+                disable();
+        }
+
+        @Override
+        public Map<String, Long> getSnapshot() {
+            return snapshot();
+        }
+
+        @Override
+        public void reset() {
+            StringUtilsMetrics.reset();
+        }
+    }
+}
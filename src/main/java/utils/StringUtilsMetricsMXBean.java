@@ -0,0 +1,29 @@
+package utils;
+
+import java.util.Map;
+
+/**
+ * StringUtilsMetrics 的 JMX 介面，以 StringUtilsMetrics.registerMBean() 註冊
+ */
+public interface StringUtilsMetricsMXBean {
+
+    /**
+     * @return 是否正在記錄
+     */
+    boolean isEnabled();
+
+    /**
+     * @param enabled 開始或停止記錄
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return 與 StringUtilsMetrics.snapshot() 相同
+     */
+    Map<String, Long> getSnapshot();
+
+    /**
+     * 將所有數值歸零
+     */
+    void reset();
+}
@@ -0,0 +1,142 @@
+package utils;
+
+/**
+ * 以終端機(terminal)顯示欄位數作為長度的 WidthPolicy：依 Unicode East Asian Width(UAX #11)，
+ * 寬(W)、全形(F)字元及寬版 emoji 為 2，組合字元等零寬度字元、以及控制字元為 0，其餘為 1
+ *
+ * <p>以碼位(code point)計算長度，並以字素叢集(grapheme cluster)為切割單位，因此 slice、split 不會切開
+ * surrogate pair、組合字元、emoji 的 ZWJ 序列、膚色修飾字元、或國旗(regional indicator pair)。
+ * 字素叢集的判斷依 UAX #29 的 extended grapheme cluster 規則簡化而成，足以處理表格、日誌等一般的輸出內容。
+ *
+ * <p>對照表為兩層的 trie：第一層以碼位的高位元(每 256 個碼位為一個區塊)索引至第二層區塊，
+ * 內容相同的區塊共用同一份資料；每個碼位以一個 byte 記錄長度、以及字素叢集判斷所需的屬性。
+ * 對照表固定依 Unicode 14.0 產生(TerminalWidthTable)，與執行中 JDK 的 Unicode 版本無關。
+ */
+public final class TerminalWidthPolicy implements WidthPolicy {
+
+    public static final TerminalWidthPolicy INSTANCE = new TerminalWidthPolicy();
+
+    private static final int BLOCK_SHIFT = TerminalWidthTable.BLOCK_SHIFT;
+    private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+
+    private static final int ZWJ = 0x200D;
+    private static final int VS16 = 0xFE0F;
+    private static final int REGIONAL_INDICATOR_START = 0x1F1E6;
+    private static final int REGIONAL_INDICATOR_END = 0x1F1FF;
+
+    // 對照表中每個碼位的屬性：低 2 位元為長度，其餘為旗標(與 tools/gen_terminal_width_table.py 相同)
+    private static final int WIDTH_MASK = 0x03;
+    private static final int EXTEND = 0x04;
+    private static final int CONTROL = 0x08;
+
+    // 第一層：碼位 >> BLOCK_SHIFT 所對應的第二層區塊編號
+    private static final char[] INDEX = TerminalWidthTable.INDEX;
+    // 第二層：各區塊內 256 個碼位的屬性
+    private static final byte[] BLOCKS = TerminalWidthTable.BLOCKS;
+
+    private TerminalWidthPolicy() {
+    }
+
+    /**
+     * @param codePoint 欲檢查的碼位
+     * @return 該碼位所佔的終端機欄位數(0、1、2)
+     */
+    public int widthOf(int codePoint) {
+        return propsOf(codePoint) & WIDTH_MASK;
+    }
+
+    private static int propsOf(int codePoint) {
+        return BLOCKS[(INDEX[codePoint >> BLOCK_SHIFT] << BLOCK_SHIFT) | (codePoint & BLOCK_MASK)];
+    }
+
+    /**
+     * 單獨的 surrogate 字元，以 1 計算(通常顯示為替代字元)
+     */
+    @Override
+    public int widthOf(char character) {
+        return Character.isSurrogate(character) ? 1 : widthOf((int) character);
+    }
+
+    @Override
+    public boolean isCharBased() {
+        return false;
+    }
+
+    @Override
+    public int unitEnd(CharSequence str, int index) {
+        char c = str.charAt(index);
+        int length = str.length();
+        if (index + 1 == length)
+            return length;
+        // 最常見的情況：BMP 字元之後，沒有任何可組合的字元
+        char n = str.charAt(index + 1);
+        if (!Character.isSurrogate(c) && !Character.isSurrogate(n) && c != '\r'
+                && n != ZWJ && (propsOf(n) & EXTEND) == 0)
+            return index + 1;
+
+        int cp = Character.codePointAt(str, index);
+        int end = index + Character.charCount(cp);
+        if (cp == '\r')
+            return end < length && str.charAt(end) == '\n' ? end + 1 : end;
+        if ((propsOf(cp) & CONTROL) != 0)
+            return end;
+        // 國旗：兩個 regional indicator 為一組
+        if (isRegionalIndicator(cp) && end < length) {
+            int next = Character.codePointAt(str, end);
+            if (isRegionalIndicator(next))
+                return end + Character.charCount(next);
+        }
+        while (end < length) {
+            int next = Character.codePointAt(str, end);
+            if (next == ZWJ) {
+                end += Character.charCount(next);
+                // emoji ZWJ 序列：ZWJ 之後的 emoji 與前面組合為一個單位
+                if (end < length) {
+                    int joined = Character.codePointAt(str, end);
+                    if (isPictographic(joined))
+                        end += Character.charCount(joined);
+                }
+            } else if ((propsOf(next) & EXTEND) != 0) {
+                end += Character.charCount(next);
+            } else {
+                break;
+            }
+        }
+        return end;
+    }
+
+    @Override
+    public int widthOf(CharSequence str, int start, int end) {
+        if (end == start + 1)
+            return widthOf(str.charAt(start));
+        int cp = Character.codePointAt(str, start);
+        int width = Character.isSurrogate(str.charAt(start)) && Character.charCount(cp) == 1 ? 1 : widthOf(cp);
+        int next = start + Character.charCount(cp);
+        if (next >= end || width == 2)
+            return width;
+        // 國旗、或以 VS16(U+FE0F) 指定 emoji 樣式顯示時，佔 2 欄
+        int second = Character.codePointAt(str, next);
+        if (isRegionalIndicator(cp) && isRegionalIndicator(second))
+            return 2;
+        for (int i = next; i < end; ) {
+            int extend = Character.codePointAt(str, i);
+            if (extend == VS16)
+                return 2;
+            i += Character.charCount(extend);
+        }
+        return width;
+    }
+
+    private static boolean isRegionalIndicator(int cp) {
+        return cp >= REGIONAL_INDICATOR_START && cp <= REGIONAL_INDICATOR_END;
+    }
+
+    private static boolean isPictographic(int cp) {
+        return (cp >= 0x1F000 && cp <= 0x1FAFF) || (cp >= 0x2600 && cp <= 0x27BF) || cp == 0x2B50 || cp == 0x2B55;
+    }
+
+    @Override
+    public String toString() {
+        return "TerminalWidthPolicy";
+    }
+}
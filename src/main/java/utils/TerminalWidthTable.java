@@ -0,0 +1,313 @@
+package utils;
+
+/**
+ * TerminalWidthPolicy 的對照表，依 Unicode 14.0.0 的 UnicodeData 與 EastAsianWidth 產生；
+ * 未指定的碼位依 UAX #11 的預設值(CJK 區塊及第 2、3 平面為 W，其餘為 N)
+ *
+ * <p>此檔案由 tools/gen_terminal_width_table.py 產生，請勿手動修改
+ */
+final class TerminalWidthTable {
+
+    static final String UNICODE_VERSION = "14.0.0";
+
+    static final int BLOCK_SHIFT = 8;
+
+    // 第一層：碼位 >> BLOCK_SHIFT 所對應的第二層區塊編號
+    static final char[] INDEX;
+    // 第二層：各區塊內每個碼位的屬性
+    static final byte[] BLOCKS;
+
+    // 每個區塊編號為 2 位數的 16 進位數字
+    private static final String INDEX_HEX =
+            "00010102030405060708090A0B0C0D0E0F1001110101011213141516171801011901011A011B1C1D0101011E1F20212223242526262626262626262626262626"
+            + "26262626262626262626262626272626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626"
+            + "262626262626262626262626262626262626262626262626262626262626262626262626280129012A2B2C2D2626262626262626262626262626262626262626"
+            + "26262626262626262626262626262626262626262626262E01010101010101010101010101010101010101010101010101010101010101010126262F01013031"
+            + "01323334010101010101350101363738393A3B3C3D3E3F4041424301444546010101010101010101010101010101010101010101470101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010148490101014A26262626262626262626262626262626"
+            + "262626262626264B262626264C4D0101010101010101010101010101010101010101010101010101010101010101014E264F5001010101010101010151010101"
+            + "0101010101010101010101010101015201535401010101010101550101010101564957010101010158590101010101015A5B5C5D5E5F60610162630101010101"
+            + "26262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626"
+            + "26262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626"
+            + "26262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626"
+            + "26262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262664"
+            + "26262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626"
+            + "26262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626"
+            + "26262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626"
+            + "26262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262626262664"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "65660101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101"
+            + "01010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101010101";
+
+    // 每個碼位的屬性為 1 位數的 16 進位數字
+    private static final String BLOCKS_HEX =
+            "88888888888888888888888888888888111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111118"
+            + "88888888888888888888888888888888111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "44444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444441111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11144444441111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111444444444444444444444444444444444444444444444141441441411111111111111111111111111111111111111111111111111111111"
+            + "00000011111111114444444444410111111111111111111111111111111111111111111111144444444444444444444411111111111111114111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111444444401444444114414444111111111111111111"
+            + "11111111111111101411111111111111111111111111111144444444444444444444444444411111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111444444444441111111111111111111111111111111111111111111111111111111111444444444111111111411"
+            + "11111111111111111111114444144444444414441444441111111111111111111111111111111111111111111444111111111111111111111111111111111111"
+            + "11111111111111110011111144444444111111111111111111111111111111111111111111444444444444444444444444044444444444444444444444444444"
+            + "44451111111111111111111111111111111111111111111111111111114541555444444445555455144444441111111111441111111111111111111111111111"
+            + "14551111111111111111111111111111111111111111111111111111111141555444411551155411111111151111111111441111111111111111111111111141"
+            + "14451111111111111111111111111111111111111111111111111111111141555441111441144411141111111111111111111111111111114411141111111111"
+            + "14451111111111111111111111111111111111111111111111111111111141555444441445155411111111111111111111441111111111111111111111444444"
+            + "14551111111111111111111111111111111111111111111111111111111141545444411551155411111114451111111111441111111111111111111111111111"
+            + "11411111111111111111111111111111111111111111111111111111111111554551115551555411111111151111111111111111111111111111111111111111"
+            + "45554111111111111111111111111111111111111111111111111111111141444555514441444411111114411111111111441111111111111111111111111111"
+            + "14551111111111111111111111111111111111111111111111111111111141545555514551554411111115511111111111441111111111111111111111111111"
+            + "44551111111111111111111111111111111111111111111111111111111441555444415551555411111111151111111111441111111111111111111111111111"
+            + "14551111111111111111111111111111111111111111111111111111111111111111111111411115554441415555555511111111111111111155111111111111"
+            + "11111111111111111111111111111111111111111111111114114444444111111111111444444441111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111114114444444441111111111144444411111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111144111111111111111111111111111414141111551111111111111111111111111111111111111111111111111444444444444445"
+            + "44444144111114444444444414444444444444444444444444444444444441111111114111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111115544445444444544554411111111111111111111111554411114441555115555555111444411111111111"
+            + "11455445555554151111111111555411111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222244444444444444444444444444444444"
+            + "44444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111144411111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111144451111111111111111111111111111445111111111111111111111111111114411111111111111111111111111111144111111111111"
+            + "11111111111111111111111111111111111111111111111111114454444444555555554554444444444411111111141111111111111111111111111111111111"
+            + "11111111111444041111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111441111111111111111111111111111111111411111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111444555544555111155455555544411111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111445541111111111111111111111111111111111111111111111111111111115454444444145455444444445555554444444444114"
+            + "11111111111111111111111111111111111111111111111144444444444444444444444444444441111111111111111111111111111111111111111111111111"
+            + "44445111111111111111111111111111111111111111111111114544444545555545511111111111111111111111111111111111111444444444111111111111"
+            + "44511111111111111111111111111111154444554454441111111111111111111111111111111111111111111111111111111145445554544455111111111111"
+            + "11111111111111111111111111111111111155555555444444445544111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111444144444444444445444444411114111111411544111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111114444444444444444444444444444444444444444444444444444444444444444"
+            + "11111111111040001111111111111111111111111100000111111111111111111111111111111111111111111111111100000100000000001111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111444444444444444444444444444444444111111111111111"
+            + "11111111111111111111111111221111111111111221111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111122221112112111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111221"
+            + "11111111111111111111221111111111111111111111111111111111111111111111111122222222222211111111111111111111111111111111111111111112"
+            + "11111111111111111112111111111111121111111122111111111111111112211111221111111121111121111111111111111111112111111122121111211211"
+            + "11111211112211111111111111111111111111112111111111111111111111111111111111112121111222121111111111111111111111111111111111111111"
+            + "11111111111111111111122211111111111111111111111121111111111111121111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111122111111111111111111111111111111111111111111111111111211112111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111144411111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111114"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111144444444444444444444444444444444"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "22222222222222222222222222122222222222222222222222222222222222222222222222222222222222222222222222222222222222222222111111111111"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222111111111111111111111111112222222222221111"
+            + "22222222222222222222222222222222222222222244446622222222222222211222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222114422222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "11111222222222222222222222222222222222222222222212222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222212222222222222222222222222222222222222222222222222222222222222222222222222222222222221111111111112222222222222222"
+            + "22222222222222222222222222222221222222222222222222222222222222222222222211111111222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222221111111111111111111111111111111111111111111111111111111111111111"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222221112222222222222222222222222222222222222222222222222222222111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111144441444444444411"
+            + "11111111111111111111111111111144111111111111111111111111111111111111111111111111111111111111111111111111111111114411111111111111"
+            + "11411141111411111111111111111111111554451111411111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "55111111111111111111111111111111111111111111111111115555555555555555441111111111111111111111111144444444444444444411111111111114"
+            + "11111111111111111111111111111111111111444444441111111111111111111111111444444444445511111111111122222222222222222222222222222111"
+            + "44451111111111111111111111111111111111111111111111145544445544555111111111111111111111111111111111111411111111111111111111111111"
+            + "11111111111111111111111111111111111111111444444554455441111111111114111111114511111111111111111111111111111111111111111111154511"
+            + "11111111111111111111111111111111111111111111111141444114411111441411111111111111111111111111111111111111111544551111154111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111155455455154111111111111111111"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222211111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111141111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "44444444444444442222222222111111444444444444444422222222222222222222222222222222222122222222222222222221222211111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111110"
+            + "12222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222221111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111122222221111111111111111110001111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111411"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111141111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111114444411111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "14441441111144441111111111111111111111111111111111111111444111141111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111441111111111111111111111111"
+            + "11111111111111111111111111111111111144441111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111114411111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111114444444444411111111111111111111111111111111111111111111111"
+            + "11444411111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "54511111111111111111111111111111111111111111111111111111444444444444444111111111111111111111111111111111111111114114411111111114"
+            + "44511111111111111111111111111111111111111111111155544445544110111141111111111011111111111111111111111111111111111111111111111111"
+            + "44411111111111111111111111111111111111144444544444444111111111111111155111111111111111111111111111111111111111111114111111111111"
+            + "44511111111111111111111111111111111111111111111111155544444444455111111114444154111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111555444554544111111411111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111455544444444111111111111111111111"
+            + "44551111111111111111111111111111111111111111111111111111111441554555511551155511111111151111111111551144444441114444411111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111555444444445544454111111111111111111111114111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111155544444454555544544111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111555444411555544544111111111111111111111111111441111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111155544444444554544111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111114545544444454111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111444554444544444111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111555444444444544111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111155555515511445415154111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111155544441144555541115111111111111111111111111111"
+            + "14444444444111111111111111111111111111111111111111144444451444411111111411111111144444455444111111111111111111111111111111111111"
+            + "11111111114444444444444544111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111544444441444444541111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111144444444444444444444441544444445445441111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111114444441114144144444441411111111111111111111111111111111111111111111111111111111"
+            + "11111111115555514415545411111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111114455111111111"
+            + "11111111111111111111111111111111111111111111111100000000011111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111114444411111111111"
+            + "11111111111111111111111111111111111111111111111144444441111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111114155555555555555555555555555555555555555555555555"
+            + "55555555111111144441111111111111111111111111111111111111111111111111111111111111111111111111111122224111111111116611111111111111"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222211111111"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222111111111111111111111111111111111111111111"
+            + "22222222211111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111112222122222221221"
+            + "22222222222222222222222222222222222111111111111111111111111111111111111111111111222111111111111111112222111111112222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222221111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111441000011111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "44444444444444444444444444444444444444444444441144444444444444444444444111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111554441115555550000000044444"
+            + "44411444444411111111111111111111111111111144441111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111144411111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "44444444444444444444444444444444444444444444444444444441111444444444444444444444444444444444444444444444444441111111141111111111"
+            + "11114111111111111111111111144444144444444444444411111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "44444441444444444444444441144444441441444441111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111114111111111111111111111111111111111111111111111111111111111111144441111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111444444411111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111444444411111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11112111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111112111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111211222222222211111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "22211111111111112222222222222222222222222222222222222222222211112222222221111111221111111111111122222211111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "22222222222222222222222222222222211111111111122222222212222222222222222222222222222222222222222222222222222222222222222222222122"
+            + "22222222222222222222111111111111222222222222222222222222222222222222222222211112222211111111111122222222222222222111211122266666"
+            + "22222222222222222222222222222222222222222222222222222222222222212122222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222112"
+            + "22222222222222222222222222222222222222222222222222222222222222111111111111122221222222222222222222222222111111111111111111211111"
+            + "11111111111111111111122111111111111121111111111111111111111111111111111111111111111111111111111111111111111111111111111111122222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222111111111111111111111111111111111111111111111111"
+            + "22222222222222222222222222222222222222222222222222222222222222222222221111112111222112221111122211111111111221111111222222222111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111122222222222211112111111111111111"
+            + "11111111111122222222222222222222222222222222222222222222222122222222221222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111112222211122222111"
+            + "22222221111111112222222222222222222222222222211122222222222111112222221111111111222222222211111122222222111111112222222111111111"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222"
+            + "22222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222211"
+            + "10111111111111111111111111111111444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444"
+            + "11111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111111"
+            + "44444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444"
+            + "44444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444441111111111111111";
+
+    static {
+        char[] index = new char[INDEX_HEX.length() / 2];
+        for (int i = 0; i < index.length; i++)
+            index[i] = (char) Integer.parseInt(INDEX_HEX, i * 2, (i + 1) * 2, 16);
+        byte[] blocks = new byte[BLOCKS_HEX.length()];
+        for (int i = 0; i < blocks.length; i++)
+            blocks[i] = (byte) Character.digit(BLOCKS_HEX.charAt(i), 16);
+        INDEX = index;
+        BLOCKS = blocks;
+    }
+
+    private TerminalWidthTable() {
+    }
+}
@@ -0,0 +1,274 @@
+package utils;
+
+import java.util.Arrays;
+
+/**
+ * 半形、全形字元的轉換。以對照表逐字元轉換，只走訪字串一次，不使用正規表示式
+ *
+ * <p>轉換的範圍：
+ * <ul>
+ *     <li>ASCII 可見字元(U+0021-U+007E)與全形英數字、符號(U+FF01-U+FF5E)，例如：L 與 Ｌ</li>
+ *     <li>空白(U+0020)與全形空白(U+3000)</li>
+ *     <li>日文半形字元(U+FF61-U+FF9F)與全形片假名、標點，例如：ｶ 與 カ、｡ 與 。；
+ *         濁音、半濁音轉為半形時拆成兩個字元(ガ 轉為 ｶﾞ)，轉為全形時則組合成一個字元</li>
+ *     <li>¢ £ ¬ ¯ ¦ ¥ ₩ 與 ￠ ￡ ￢ ￣ ￤ ￥ ￦(U+FFE0-U+FFE6)</li>
+ * </ul>
+ * 其餘字元維持不變。
+ */
+public final class WidthConverter {
+
+    private static final int FULL_ASCII_START = 0xFF01;
+    private static final int FULL_ASCII_END = 0xFF5E;
+    // 全形英數字、符號與 ASCII 的差值
+    private static final int FULL_ASCII_OFFSET = 0xFEE0;
+    private static final char IDEOGRAPHIC_SPACE = '　';
+
+    // 日文半形字元 U+FF61-U+FF9F，依序所對應的全形字元
+    private static final String HALF_KANA_TO_FULL = "。「」、・ヲァィゥェォャュョッーアイウエオカキクケコサシスセソタチツテトナニヌネノ"
+            + "ハヒフヘホマミムメモヤユヨラリルレロワン゛゜";
+    private static final char HALF_KANA_START = '｡';
+    private static final char HALF_KANA_END = 'ﾟ';
+    private static final char HALF_VOICED_MARK = 'ﾞ';
+    private static final char HALF_SEMI_VOICED_MARK = 'ﾟ';
+
+    // 全形符號 U+FFE0-U+FFE6，依序所對應的半形字元
+    private static final String FULL_SYMBOLS_TO_HALF = "¢£¬¯¦¥₩";
+    private static final int FULL_SYMBOLS_START = 0xFFE0;
+
+    // 全形的 CJK 標點、平假名、片假名區塊(U+3000-U+30FF)
+    private static final int KANA_BLOCK = 0x3000;
+    private static final int KANA_BLOCK_SIZE = 0x100;
+    // 轉為半形時的字元，以及其後所接的濁點、半濁點(沒有則為 0)
+    private static final char[] KANA_TO_HALF = new char[KANA_BLOCK_SIZE];
+    private static final char[] KANA_TO_HALF_MARK = new char[KANA_BLOCK_SIZE];
+    // 全形片假名加上濁點、半濁點後的字元(沒有則為 0)
+    private static final char[] VOICED = new char[KANA_BLOCK_SIZE];
+    private static final char[] SEMI_VOICED = new char[KANA_BLOCK_SIZE];
+
+    static {
+        KANA_TO_HALF[0] = ' ';
+        for (int i = 0; i < HALF_KANA_TO_FULL.length(); i++)
+            KANA_TO_HALF[HALF_KANA_TO_FULL.charAt(i) - KANA_BLOCK] = (char) (HALF_KANA_START + i);
+        // 組合用的濁點、半濁點(U+3099、U+309A)
+        KANA_TO_HALF[0x3099 - KANA_BLOCK] = HALF_VOICED_MARK;
+        KANA_TO_HALF[0x309A - KANA_BLOCK] = HALF_SEMI_VOICED_MARK;
+
+        String voiceable = "カキクケコサシスセソタチツテトハヒフヘホ";
+        for (int i = 0; i < voiceable.length(); i++)
+            addVoiced(voiceable.charAt(i), (char) (voiceable.charAt(i) + 1), VOICED, HALF_VOICED_MARK);
+        addVoiced('ウ', 'ヴ', VOICED, HALF_VOICED_MARK);
+        addVoiced('ワ', 'ヷ', VOICED, HALF_VOICED_MARK);
+        addVoiced('ヲ', 'ヺ', VOICED, HALF_VOICED_MARK);
+        String semiVoiceable = "ハヒフヘホ";
+        for (int i = 0; i < semiVoiceable.length(); i++)
+            addVoiced(semiVoiceable.charAt(i), (char) (semiVoiceable.charAt(i) + 2), SEMI_VOICED, HALF_SEMI_VOICED_MARK);
+    }
+
+    private WidthConverter() {
+    }
+
+    private static void addVoiced(char base, char voiced, char[] table, char mark) {
+        table[base - KANA_BLOCK] = voiced;
+        KANA_TO_HALF[voiced - KANA_BLOCK] = KANA_TO_HALF[base - KANA_BLOCK];
+        KANA_TO_HALF_MARK[voiced - KANA_BLOCK] = mark;
+    }
+
+    /**
+     * 將全形字元轉為半形字元；濁音、半濁音會轉為兩個字元(例如：ガ 轉為 ｶﾞ)
+     * @param str 欲轉換的字串
+     * @return 轉換後的字串；沒有需要轉換的字元時，回傳原字串
+     */
+    public static String toHalfWidth(String str) {
+        int i = 0;
+        while (i < str.length() && toHalfWidth(str.charAt(i)) == str.charAt(i))
+            i++;
+        if (i == str.length())
+            return str;
+
+        StringBuilder sb = new StringBuilder(str.length() + 8);
+        sb.append(str, 0, i);
+        for (; i < str.length(); i++) {
+            char c = str.charAt(i);
+            sb.append(toHalfWidth(c));
+            char mark = halfWidthMarkOf(c);
+            if (mark != 0)
+                sb.append(mark);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 將半形字元轉為全形字元；日文半形字元之後的濁點、半濁點，會組合成一個字元(例如：ｶﾞ 轉為 ガ)
+     * @param str 欲轉換的字串
+     * @return 轉換後的字串；沒有需要轉換的字元時，回傳原字串
+     */
+    public static String toFullWidth(String str) {
+        int i = 0;
+        while (i < str.length() && toFullWidth(str.charAt(i)) == str.charAt(i))
+            i++;
+        if (i == str.length())
+            return str;
+
+        StringBuilder sb = new StringBuilder(str.length());
+        sb.append(str, 0, i);
+        while (i < str.length()) {
+            char full = composedFullWidthOf(str, i);
+            i += consumedBy(str, i, full);
+            sb.append(full);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 與 StringUtils.slice(toHalfWidth(str), length, option, padChar) 相同，但轉換、切割、補滿在同一次走訪中完成，
+     * 不建立轉換後的中間字串。與先轉換再切割不同的是，濁音、半濁音轉換後的兩個字元(例如：ｶﾞ)不會被切開
+     * @param str 欲轉換並切割的字串
+     * @param length 欲切割的長度(半形：1、全形：2)
+     * @param option -1：左邊補滿；1：右邊補滿；0或其它：不補滿
+     * @param padChar 欲用來做補滿動作的字元
+     * @return 處理完成後的字串
+     */
+    public static String sliceHalfWidth(String str, int length, int option, char padChar) {
+        return convertAndSlice(str, length, option, padChar, true);
+    }
+
+    /**
+     * 與 StringUtils.slice(toFullWidth(str), length, option, padChar) 相同，但轉換、切割、補滿在同一次走訪中完成，
+     * 不建立轉換後的中間字串
+     * @param str 欲轉換並切割的字串
+     * @param length 欲切割的長度(半形：1、全形：2)
+     * @param option -1：左邊補滿；1：右邊補滿；0或其它：不補滿
+     * @param padChar 欲用來做補滿動作的字元
+     * @return 處理完成後的字串
+     */
+    public static String sliceFullWidth(String str, int length, int option, char padChar) {
+        return convertAndSlice(str, length, option, padChar, false);
+    }
+
+    /**
+     * 以預設方式(半形：1、全形：2)計算長度。第一次走訪只計算結果的字元數，
+     * 第二次走訪再將轉換後的字元寫入大小剛好的陣列，length 很大時亦不會配置過大的陣列
+     */
+    private static String convertAndSlice(String str, int length, int option, char padChar, boolean toHalf) {
+        if (length <= 0)
+            return "";
+
+        long measured = convert(str, length, toHalf, null, 0);
+        int count = (int) (measured >>> 32);
+        // 每個字元的長度至少為 1，因此補滿後的字元數不會超過 length
+        int padRound = option == -1 || option == 1 ? length - (int) measured : 0;
+        char[] buffer = new char[count + padRound];
+        if (option == -1) {
+            Arrays.fill(buffer, 0, padRound, padChar);
+            convert(str, length, toHalf, buffer, padRound);
+        } else {
+            convert(str, length, toHalf, buffer, 0);
+            Arrays.fill(buffer, count, buffer.length, padChar);
+        }
+        return new String(buffer);
+    }
+
+    /**
+     * 轉換 str 開頭長度不超過 length 的部分，不包含未被完整切割的字元
+     * @param out 欲寫入轉換後字元的陣列；為 null 時只計算，不寫入
+     * @param offset 開始寫入 out 的位置
+     * @return 轉換後的字元數(高 32 位元)與長度(低 32 位元)
+     */
+    private static long convert(String str, int length, boolean toHalf, char[] out, int offset) {
+        int count = 0;
+        int width = 0;
+        for (int i = 0; i < str.length() && width < length; ) {
+            char c = str.charAt(i);
+            char first;
+            char second = 0;
+            int consumed = 1;
+            if (Character.isHighSurrogate(c) && i + 1 < str.length() && Character.isLowSurrogate(str.charAt(i + 1))) {
+                // surrogate pair 不轉換，視為一個單位
+                first = c;
+                second = str.charAt(i + 1);
+                consumed = 2;
+            } else if (toHalf) {
+                first = toHalfWidth(c);
+                second = halfWidthMarkOf(c);
+            } else {
+                first = composedFullWidthOf(str, i);
+                consumed = consumedBy(str, i, first);
+            }
+            int unitWidth = StringUtils.widthOf(first) + (second == 0 ? 0 : StringUtils.widthOf(second));
+            if (width + unitWidth > length)
+                break;
+            int units = second == 0 ? 1 : 2;
+            if (out != null) {
+                out[offset + count] = first;
+                if (second != 0)
+                    out[offset + count + 1] = second;
+            }
+            count += units;
+            width += unitWidth;
+            i += consumed;
+        }
+        return (long) count << 32 | width;
+    }
+
+    /**
+     * @param c 欲轉換的字元
+     * @return 所對應的半形字元；濁音、半濁音則為去除濁點後的字元。沒有對應的半形字元時，回傳 c
+     */
+    public static char toHalfWidth(char c) {
+        if (c >= FULL_ASCII_START && c <= FULL_ASCII_END)
+            return (char) (c - FULL_ASCII_OFFSET);
+        if (c >= KANA_BLOCK && c < KANA_BLOCK + KANA_BLOCK_SIZE) {
+            char half = KANA_TO_HALF[c - KANA_BLOCK];
+            return half == 0 ? c : half;
+        }
+        if (c >= FULL_SYMBOLS_START && c < FULL_SYMBOLS_START + FULL_SYMBOLS_TO_HALF.length())
+            return FULL_SYMBOLS_TO_HALF.charAt(c - FULL_SYMBOLS_START);
+        return c;
+    }
+
+    /**
+     * @param c 欲轉換的字元
+     * @return 所對應的全形字元(不組合濁點、半濁點)；沒有對應的全形字元時，回傳 c
+     */
+    public static char toFullWidth(char c) {
+        if (c == ' ')
+            return IDEOGRAPHIC_SPACE;
+        if (c >= FULL_ASCII_START - FULL_ASCII_OFFSET && c <= FULL_ASCII_END - FULL_ASCII_OFFSET)
+            return (char) (c + FULL_ASCII_OFFSET);
+        if (c >= HALF_KANA_START && c <= HALF_KANA_END)
+            return HALF_KANA_TO_FULL.charAt(c - HALF_KANA_START);
+        int symbol = FULL_SYMBOLS_TO_HALF.indexOf(c);
+        return symbol < 0 ? c : (char) (FULL_SYMBOLS_START + symbol);
+    }
+
+    /**
+     * @return 轉為半形時，其後所接的濁點或半濁點；沒有則回傳 0
+     */
+    private static char halfWidthMarkOf(char c) {
+        return c >= KANA_BLOCK && c < KANA_BLOCK + KANA_BLOCK_SIZE ? KANA_TO_HALF_MARK[c - KANA_BLOCK] : 0;
+    }
+
+    /**
+     * @return 索引值 index 的字元轉為全形後的字元；若為日文半形字元，且其後接著可組合的濁點、半濁點，則回傳組合後的字元
+     */
+    private static char composedFullWidthOf(String str, int index) {
+        char c = str.charAt(index);
+        char full = toFullWidth(c);
+        if (c < HALF_KANA_START || c > HALF_KANA_END || index + 1 >= str.length())
+            return full;
+        char next = str.charAt(index + 1);
+        char[] table = next == HALF_VOICED_MARK ? VOICED : next == HALF_SEMI_VOICED_MARK ? SEMI_VOICED : null;
+        if (table == null || full < KANA_BLOCK || full >= KANA_BLOCK + KANA_BLOCK_SIZE)
+            return full;
+        char composed = table[full - KANA_BLOCK];
+        return composed == 0 ? full : composed;
+    }
+
+    /**
+     * @return composedFullWidthOf 所使用的字元數：組合了濁點、半濁點時為 2，否則為 1
+     */
+    private static int consumedBy(String str, int index, char full) {
+        char c = str.charAt(index);
+        return c >= HALF_KANA_START && c <= HALF_KANA_END && full != toFullWidth(c) ? 2 : 1;
+    }
+}
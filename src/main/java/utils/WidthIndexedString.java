@@ -0,0 +1,202 @@
+package utils;
+
+import java.util.Arrays;
+
+/**
+ * 預先計算長度(半形：1、全形：2)索引的字串，用於對同一個長字串反覆切割(例如：將文件分頁顯示)。
+ * StringUtils 的 slice 每次都從索引值 0 開始計算，逐頁切割 N 頁需要 O(N²)；
+ * 本類別建立時掃描一次，之後每次切割只需二元搜尋，再加上最多一個區段的掃描
+ *
+ * <p>索引為稀疏的檢查點：大約每 64 個字元，記錄一次字元索引值與到該處為止的總長度，
+ * 且檢查點一定落在單位(surrogate pair、字素叢集)的邊界上。切割結果與 StringUtils 相同的方法一致。
+ * 建立後即不可變更，可在多個執行緒之間共用
+ */
+public final class WidthIndexedString {
+
+    // 檢查點之間，最少間隔的字元數
+    private static final int STRIDE = 64;
+
+    private final String str;
+    private final WidthPolicy policy;
+    private final int[] offsets;
+    private final int[] widths;
+    private final int width;
+
+    /**
+     * 以預設方式(半形：1、全形：2)計算長度
+     * @param str 欲建立索引的字串
+     */
+    public WidthIndexedString(String str) {
+        this(str, WidthPolicy.DEFAULT);
+    }
+
+    /**
+     * @param str 欲建立索引的字串
+     * @param policy 計算字元長度的方式
+     */
+    public WidthIndexedString(String str, WidthPolicy policy) {
+        this.str = str;
+        this.policy = policy;
+        int capacity = str.length() / STRIDE + 1;
+        int[] offsets = new int[capacity];
+        int[] widths = new int[capacity];
+        int count = 0;
+        int total = 0;
+        for (int i = 0; i < str.length(); ) {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+                widths = Arrays.copyOf(widths, count * 2);
+            }
+            offsets[count] = i;
+            widths[count] = total;
+            count++;
+            int end = checkpointEnd(i);
+            total += StringUtils.widthOf(str, i, end, policy);
+            i = end;
+        }
+        if (count == 0) {
+            offsets = new int[]{0};
+            widths = new int[]{0};
+            count = 1;
+        }
+        this.offsets = count == offsets.length ? offsets : Arrays.copyOf(offsets, count);
+        this.widths = count == widths.length ? widths : Arrays.copyOf(widths, count);
+        this.width = total;
+    }
+
+    /**
+     * 回傳 from 之後，下一個檢查點的索引值：至少間隔 STRIDE 個字元，且不會落在單位之中
+     */
+    private int checkpointEnd(int from) {
+        int end = from + STRIDE;
+        if (end >= str.length())
+            return str.length();
+        if (policy.isCharBased()) {
+            // 以字元為單位時，只需避免切開 surrogate pair
+            if (Character.isHighSurrogate(str.charAt(end - 1)) && Character.isLowSurrogate(str.charAt(end)))
+                end++;
+            return end;
+        }
+        int i = from;
+        while (i < end)
+            i = policy.unitEnd(str, i);
+        return i;
+    }
+
+    /**
+     * @return 原始字串
+     */
+    @Override
+    public String toString() {
+        return str;
+    }
+
+    /**
+     * @return 字元數
+     */
+    public int length() {
+        return str.length();
+    }
+
+    /**
+     * @return 總長度，與 StringUtils.widthOf(str, policy) 相同
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * @return 計算長度的方式
+     */
+    public WidthPolicy widthPolicy() {
+        return policy;
+    }
+
+    /**
+     * 回傳切割在長度 column 時的字元索引值；與 StringUtils.slice(str, column, includeCutChar).length() 相同
+     * @param column 欲切割的長度
+     * @param includeCutChar 是否包含未被完整切割的字元
+     * @return 切割位置的字元索引值(不包含)
+     */
+    public int offsetAt(int column, boolean includeCutChar) {
+        if (column <= 0)
+            return 0;
+        if (column > width)
+            return str.length();
+        // 最後一個總長度小於 column 的檢查點；從該處開始計算，結果與從索引值 0 開始相同
+        int low = 0;
+        int high = widths.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (widths[mid] < column)
+                low = mid;
+            else
+                high = mid - 1;
+        }
+        return StringUtils.cutIndex(str, offsets[low], column - widths[low], includeCutChar, policy);
+    }
+
+    /**
+     * 回傳字元索引值 index 之前的總長度
+     * @param index 字元索引值，須位於單位的邊界上
+     * @return 索引值 0 至 index(不包含)之間的總長度
+     */
+    public int widthBefore(int index) {
+        int low = 0;
+        int high = offsets.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= index)
+                low = mid;
+            else
+                high = mid - 1;
+        }
+        return widths[low] + StringUtils.widthOf(str, offsets[low], index, policy);
+    }
+
+    /**
+     * 與 StringUtils.slice(str, length, includeCutChar) 相同
+     * @param length 欲切割的長度
+     * @param includeCutChar 是否包含未被完整切割的字元
+     * @return 切割後的字串
+     */
+    public String slice(int length, boolean includeCutChar) {
+        return str.substring(0, offsetAt(length, includeCutChar));
+    }
+
+    /**
+     * 與 StringUtils.tailStringOfSliced(str, length, includeCutChar) 相同
+     * @param length 欲切割的長度
+     * @param includeCutChar 是否包含未被完整切割的字元
+     * @return 切割後，剩餘的字串
+     */
+    public String tailStringOfSliced(int length, boolean includeCutChar) {
+        return str.substring(offsetAt(length, includeCutChar));
+    }
+
+    /**
+     * 與 StringUtils.slice(str, afterWidth, slicingWidth, includeFirstCutChar, includeSecondCutChar) 相同
+     * @param afterWidth 從多少長度之後開始切割
+     * @param slicingWidth 欲切割多少長度的字串
+     * @param includeFirstCutChar afterWidth 的長度計算，是否包含若未被完整切割的字元
+     * @param includeSecondCutChar 新切割好的字串，是否包含末尾未被完整切割的字元
+     * @return 切割後的字串
+     */
+    public String slice(int afterWidth, int slicingWidth, boolean includeFirstCutChar, boolean includeSecondCutChar) {
+        int start = offsetAt(afterWidth, !includeFirstCutChar);
+        return str.substring(start, endOf(start, slicingWidth, includeSecondCutChar));
+    }
+
+    /**
+     * 從 start 開始，切割 slicingWidth 長度時的結束索引值。
+     * start 為單位的邊界，且之前的單位總長度皆不大於 start 處的總長度，因此可換算成從頭計算的長度
+     */
+    private int endOf(int start, int slicingWidth, boolean includeCutChar) {
+        if (slicingWidth <= 0)
+            return start;
+        int startWidth = widthBefore(start);
+        if (slicingWidth > width - startWidth)
+            return str.length();
+        return offsetAt(startWidth + slicingWidth, includeCutChar);
+    }
+}
@@ -0,0 +1,56 @@
+package utils;
+
+/**
+ * 計算字元長度的方式。StringUtils 的 widthOf、slice、split、以及 Padding 相關方法，皆可指定所使用的 WidthPolicy
+ *
+ * <p>切割字串時，以「單位」為最小切割範圍：預設為一個字元，但 surrogate pair 視為一個單位，不會被切開；
+ * 長度為單位內各字元長度的總和。需要以字素叢集(grapheme cluster)為單位時，可覆寫 unitEnd 與 widthOf(str, start, end)
+ */
+@FunctionalInterface
+public interface WidthPolicy {
+
+    /**
+     * 預設的計算方式：U+0000-U+00FF 及日文半形字元(U+FF61-U+FF9F) 為 1，其餘為 2
+     */
+    WidthPolicy DEFAULT = StringUtils::widthOf;
+
+    /**
+     * @param character 欲檢查的字元
+     * @return 該字元的長度
+     */
+    int widthOf(char character);
+
+    /**
+     * 是否以字元(及 surrogate pair)為切割單位：surrogate pair 以 unitEnd、widthOf(str, start, end) 計算，
+     * 其餘字元以 widthOf(char) 計算。覆寫 unitEnd，或 widthOf(str, start, end) 不只處理 surrogate pair 時，須回傳 false
+     * @return 預設為 true
+     */
+    default boolean isCharBased() {
+        return true;
+    }
+
+    /**
+     * @param str 字串
+     * @param index 單位的開始索引值
+     * @return 單位的結束索引值(不包含)；切割時不會切在單位之中
+     */
+    default int unitEnd(CharSequence str, int index) {
+        if (Character.isHighSurrogate(str.charAt(index)) && index + 1 < str.length()
+                && Character.isLowSurrogate(str.charAt(index + 1)))
+            return index + 2;
+        return index + 1;
+    }
+
+    /**
+     * @param str 字串
+     * @param start 單位的開始索引值
+     * @param end 單位的結束索引值(不包含)
+     * @return 該單位的長度
+     */
+    default int widthOf(CharSequence str, int start, int end) {
+        int width = 0;
+        for (int i = start; i < end; i++)
+            width += widthOf(str.charAt(i));
+        return width;
+    }
+}
@@ -0,0 +1,310 @@
+package utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 依長度(半形：1、全形：2)自動換行。與 StringUtils.split 直接切斷不同，英文在空白處換行，中文、日文則可在字與字之間換行；
+ * 並且遵循基本的禁則處理：句號、逗號、右括號等(例如：。，」)不會出現在行首，左括號(例如：「（)不會出現在行尾。
+ * 可選擇左右對齊(justify)，將每一行補滿至指定的長度
+ *
+ * <p>以貪婪演算法逐字元處理，只記住最後一個可換行的位置，時間複雜度為線性；每產生一行即交給 Consumer，
+ * 不需保留所有的行。輸入中的換行字元(\n、\r\n)視為段落結束，一定會換行。
+ * 行尾的空白會被去除；因換行而位於行首的空白亦會略過，但段落開頭的縮排會保留。
+ * 單一個詞的長度超過一行時，則直接切斷。無法再切割的單一字元(或字素叢集)本身的長度即超過 width 時
+ * (例如：width 為 1 時的全形字)，該字元單獨成為一行，長度超過 width；左右對齊時亦同
+ *
+ * <p>建立後即不可變更，可在多個執行緒之間共用
+ */
+public final class WordWrapper {
+
+    // 不可位於行首的字元
+    private static final String NO_START_CHARS = "、。，．・：；？！‼⁇⁈⁉ー～）」』】〕〉》〙〗｝］’”ゝゞヽヾ々〻"
+            + "ぁぃぅぇぉっゃゅょゎゕゖァィゥェォッャュョヮヵヶ"
+            + "!),.:;?]}%｡｣､･ｰﾞﾟｧｨｩｪｫｯｬｭｮ";
+    // 不可位於行尾的字元
+    private static final String NO_END_CHARS = "（「『【〔〈《〘〖｛［‘“([{｢";
+
+    // 各字元的類型：空白、不可位於行首、不可位於行尾
+    private static final byte SPACE = 1;
+    private static final byte NO_START = 2;
+    private static final byte NO_END = 4;
+    private static final byte[] FLAGS = new byte[0x10000];
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    static {
+        for (int c = 0; c < FLAGS.length; c++) {
+            if (c == ' ' || c == '\t' || (c > ' ' && Character.isWhitespace(c)))
+                FLAGS[c] = SPACE;
+        }
+        for (int i = 0; i < NO_START_CHARS.length(); i++)
+            FLAGS[NO_START_CHARS.charAt(i)] |= NO_START;
+        for (int i = 0; i < NO_END_CHARS.length(); i++)
+            FLAGS[NO_END_CHARS.charAt(i)] |= NO_END;
+    }
+
+    private final int width;
+    private final WidthPolicy policy;
+    private final boolean justify;
+
+    /**
+     * 以預設方式(半形：1、全形：2)計算長度，不做左右對齊
+     * @param width 每一行的長度，須大於 0
+     */
+    public WordWrapper(int width) {
+        this(width, WidthPolicy.DEFAULT, false);
+    }
+
+    /**
+     * @param width 每一行的長度，須大於 0
+     * @param policy 計算字元長度的方式
+     * @param justify 是否左右對齊：以空白補滿每一行至 width 的長度
+     */
+    public WordWrapper(int width, WidthPolicy policy, boolean justify) {
+        if (width <= 0)
+            throw new IllegalArgumentException("Width must be positive: " + width);
+        this.width = width;
+        this.policy = policy;
+        this.justify = justify;
+    }
+
+    /**
+     * @return 每一行的長度
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * 將文字換行後，回傳所有的行；適用於較短的文字
+     * @param text 欲換行的文字
+     * @return 換行後的各行
+     */
+    public List<String> wrap(CharSequence text) {
+        List<String> lines = new ArrayList<>();
+        wrap(text, lines::add);
+        return lines;
+    }
+
+    /**
+     * 將文字換行，每產生一行即交給 lines
+     * @param text 欲換行的文字
+     * @param lines 接收每一行的 Consumer
+     */
+    public void wrap(CharSequence text, Consumer<? super String> lines) {
+        StringBuilder sb = new StringBuilder();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                int end = i > start && text.charAt(i - 1) == '\r' ? i - 1 : i;
+                wrapParagraph(text, start, end, sb, lines);
+                start = i + 1;
+            }
+        }
+        if (start < text.length())
+            wrapParagraph(text, start, text.length(), sb, lines);
+    }
+
+    /**
+     * 從 Reader 逐段讀取文字並換行，每產生一行即交給 lines；所佔用的記憶體只與最長的段落有關
+     * @param in 欲換行的文字
+     * @param lines 接收每一行的 Consumer
+     * @throws IOException 讀取時發生錯誤
+     */
+    public void wrap(Reader in, Consumer<? super String> lines) throws IOException {
+        // 與 wrap(CharSequence) 相同，只以 \n、\r\n 分隔段落(BufferedReader.readLine 亦會在單獨的 \r 處分隔)
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        StringBuilder paragraph = new StringBuilder();
+        StringBuilder sb = new StringBuilder();
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            int start = 0;
+            for (int i = 0; i < n; i++) {
+                if (buffer[i] == '\n') {
+                    paragraph.append(buffer, start, i - start);
+                    int end = paragraph.length();
+                    if (end > 0 && paragraph.charAt(end - 1) == '\r')
+                        end--;
+                    wrapParagraph(paragraph, 0, end, sb, lines);
+                    paragraph.setLength(0);
+                    start = i + 1;
+                }
+            }
+            paragraph.append(buffer, start, n - start);
+        }
+        if (paragraph.length() > 0)
+            wrapParagraph(paragraph, 0, paragraph.length(), sb, lines);
+    }
+
+    /**
+     * 將索引值 from(包含) 至 to(不包含) 之間的段落換行
+     */
+    private void wrapParagraph(CharSequence text, int from, int to, StringBuilder sb, Consumer<? super String> lines) {
+        int lineStart = from;
+        int lineWidth = 0;
+        // 目前這一行，最後一個非空白單位的結束索引值
+        int contentEnd = from;
+        // 最後一個可換行的位置：下一行的開始索引值、這一行的結束索引值、以及從行首至該處的長度
+        int breakIndex = -1;
+        int breakContentEnd = 0;
+        int breakWidth = 0;
+        // 前一個單位的類型
+        boolean prevSpace = false;
+        boolean prevWide = false;
+        boolean prevNoEnd = false;
+
+        for (int i = from; i < to; ) {
+            int next = Math.min(unitEnd(text, i), to);
+            char c = text.charAt(i);
+            int w = widthOf(text, c, i, next);
+            int flags = FLAGS[c];
+            boolean space = (flags & SPACE) != 0;
+            boolean wide = isWide(c, w);
+            boolean noStart = (flags & NO_START) != 0;
+
+            // 換行後，該行須有內容；段落開頭的縮排之後亦可換行(換行時捨棄縮排)
+            if ((contentEnd > lineStart || prevSpace) && breakAllowed(prevSpace, prevWide, prevNoEnd, space, wide, noStart)) {
+                breakIndex = i;
+                breakContentEnd = contentEnd;
+                breakWidth = lineWidth;
+            }
+
+            if (!space && lineWidth + w > width) {
+                if (breakIndex > lineStart) {
+                    if (breakContentEnd > lineStart)
+                        emit(text, lineStart, breakContentEnd, true, sb, lines);
+                    lineStart = breakIndex;
+                    lineWidth -= breakWidth;
+                    contentEnd = Math.max(contentEnd, lineStart);
+                    breakIndex = -1;
+                }
+                // 最後一個可換行的位置之後，仍然太長：直接切斷；只有縮排的空白時，則捨棄縮排。
+                // 單一單位即超過 width 時，該單位仍單獨成為一行(不會捨棄內容)
+                if (lineWidth + w > width && i > lineStart) {
+                    if (contentEnd > lineStart)
+                        emit(text, lineStart, contentEnd, false, sb, lines);
+                    lineStart = i;
+                    lineWidth = 0;
+                    contentEnd = i;
+                    breakIndex = -1;
+                }
+            }
+
+            lineWidth += w;
+            if (!space)
+                contentEnd = next;
+            prevSpace = space;
+            prevWide = wide;
+            prevNoEnd = (flags & NO_END) != 0;
+            i = next;
+        }
+        emit(text, lineStart, Math.max(contentEnd, lineStart), false, sb, lines);
+    }
+
+    /**
+     * 前、後兩個單位之間，是否可以換行
+     */
+    private static boolean breakAllowed(boolean prevSpace, boolean prevWide, boolean prevNoEnd,
+                                        boolean space, boolean wide, boolean noStart) {
+        if (space || noStart)
+            return false;
+        if (prevSpace)
+            return true;
+        return (prevWide || wide) && !prevNoEnd;
+    }
+
+    private int unitEnd(CharSequence text, int index) {
+        if (policy.isCharBased() && !Character.isHighSurrogate(text.charAt(index)))
+            return index + 1;
+        return policy.unitEnd(text, index);
+    }
+
+    private int widthOf(CharSequence text, char c, int start, int end) {
+        if (policy.isCharBased() && end == start + 1)
+            return policy.widthOf(c);
+        return StringUtils.widthOf(text, start, end, policy);
+    }
+
+    /**
+     * 全形字元(中文、日文)之間可以換行；日文半形字元的長度雖為 1，亦視為可換行
+     */
+    private static boolean isWide(char c, int w) {
+        return w >= 2 || (c >= '｡' && c <= 'ﾟ');
+    }
+
+    /**
+     * 輸出一行；左右對齊時，因自動換行而結束的行，平均分配不足的長度至各個間隔，其他的行則補滿於右側
+     */
+    private void emit(CharSequence text, int start, int end, boolean softBreak, StringBuilder sb,
+                      Consumer<? super String> lines) {
+        String line = text.subSequence(start, end).toString();
+        if (!justify) {
+            lines.accept(line);
+        } else if (!softBreak) {
+            lines.accept(StringUtils.rightPad(line, width, ' ', policy));
+        } else {
+            lines.accept(justify(line, sb));
+        }
+    }
+
+    /**
+     * 優先擴大英文字之間的空白；沒有空白時，則在可換行的字元之間(例如：中文字之間)插入空白
+     */
+    private String justify(String line, StringBuilder sb) {
+        // 總長度、空白之後的間隔數量、可換行的間隔數量
+        int[] counts = new int[3];
+        scanGaps(line, counts, false, null, 0, 0);
+        int extra = width - counts[0];
+        if (extra <= 0)
+            return line;
+        boolean spaceGaps = counts[1] > 0;
+        int gaps = spaceGaps ? counts[1] : counts[2];
+        if (gaps == 0)
+            return StringUtils.rightPad(line, width, ' ', policy);
+        sb.setLength(0);
+        scanGaps(line, null, spaceGaps, sb, extra / gaps, extra % gaps);
+        return sb.toString();
+    }
+
+    /**
+     * 逐單位檢查一行中的間隔。counts 不為 null 時，計算總長度與兩種間隔的數量；
+     * sb 不為 null 時，將各間隔補上空白後附加至 sb：每個間隔補上 base 個空白，前 remainder 個間隔再多補一個
+     */
+    private void scanGaps(String line, int[] counts, boolean spaceGaps, StringBuilder sb, int base, int remainder) {
+        int gaps = 0;
+        boolean prevSpace = false;
+        boolean prevWide = false;
+        boolean prevNoEnd = false;
+        for (int i = 0; i < line.length(); ) {
+            int next = unitEnd(line, i);
+            char c = line.charAt(i);
+            int w = widthOf(line, c, i, next);
+            int flags = FLAGS[c];
+            boolean space = (flags & SPACE) != 0;
+            boolean wide = isWide(c, w);
+            boolean spaceGap = i > 0 && prevSpace && !space;
+            boolean breakGap = i > 0 && breakAllowed(false, prevWide, prevNoEnd, space, wide, (flags & NO_START) != 0);
+            if (counts != null) {
+                counts[0] += w;
+                counts[1] += spaceGap ? 1 : 0;
+                counts[2] += breakGap ? 1 : 0;
+            }
+            if (sb != null) {
+                if (spaceGaps ? spaceGap : breakGap) {
+                    for (int k = base + (gaps < remainder ? 1 : 0); k > 0; k--)
+                        sb.append(' ');
+                    gaps++;
+                }
+                sb.append(line, i, next);
+            }
+            prevSpace = space;
+            prevWide = wide;
+            prevNoEnd = (flags & NO_END) != 0;
+            i = next;
+        }
+    }
+}
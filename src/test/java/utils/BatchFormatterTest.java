@@ -0,0 +1,94 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchFormatterTest {
+
+    private final RecordLayout layout = RecordLayout.builder()
+            .field(6, -1, '0')
+            .field(10, 1)
+            .field(5, -1)
+            .build();
+
+    private List<Object[]> rows(int count) {
+        String[] names = {"王小明", "Alice Smith", "ｶﾀｶﾅ", null, "中文字中文字中文字"};
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++)
+            rows.add(new Object[]{i, names[i % names.length], "A" + i % 7});
+        return rows;
+    }
+
+    @Test
+    void format() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BatchFormatter formatter = new BatchFormatter(layout, pool, "\n");
+            List<Object[]> rows = rows(5000);
+            List<String> results = formatter.format(rows);
+            assertEquals(rows.size(), results.size());
+            for (int i = 0; i < rows.size(); i++)
+                assertEquals(layout.format(rows.get(i)), results.get(i));
+            assertEquals(Collections.emptyList(), formatter.format(Collections.emptyList()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void write() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            BatchFormatter formatter = new BatchFormatter(layout, pool, "\r\n");
+            // 超過一個視窗的資料量，且最後一個視窗不滿
+            List<Object[]> rows = rows(1024 * 4 * 3 * 2 + 100);
+            StringBuilder expected = new StringBuilder();
+            for (Object[] row : rows)
+                expected.append(layout.format(row)).append("\r\n");
+
+            StringBuilder sb = new StringBuilder();
+            formatter.write(rows, sb);
+            assertEquals(expected.toString(), sb.toString());
+
+            sb.setLength(0);
+            formatter.write(rows.stream(), sb);
+            assertEquals(expected.toString(), sb.toString());
+
+            sb.setLength(0);
+            formatter.write(rows.parallelStream().map(row -> row), sb);
+            assertEquals(expected.toString(), sb.toString());
+
+            sb.setLength(0);
+            formatter.write(rows.subList(0, 0).spliterator(), sb);
+            assertEquals("", sb.toString());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void commonPool() throws IOException {
+        BatchFormatter formatter = new BatchFormatter(layout);
+        StringBuilder sb = new StringBuilder();
+        formatter.write(rows(3), sb);
+        assertEquals("000000王小明       A0\n000001Alice Smit   A1\n000002ｶﾀｶﾅ         A2\n", sb.toString());
+    }
+
+    @Test
+    void invalidRow() {
+        BatchFormatter formatter = new BatchFormatter(layout);
+        List<Object[]> rows = rows(3000);
+        rows.set(2500, new Object[]{1, 2});
+        assertThrows(IllegalArgumentException.class, () -> formatter.format(rows));
+        // 重複使用的 StringBuilder 不會留下失敗的內容
+        assertEquals(layout.format(rows.get(0)), formatter.format(rows.subList(0, 1)).get(0));
+        assertEquals(layout.format(rows.get(2499)), formatter.format(rows.subList(0, 2500)).get(2499));
+    }
+}
@@ -0,0 +1,134 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedSlicerTest {
+
+    @Test
+    void slice() {
+        CachedSlicer slicer = new CachedSlicer(100);
+        assertEquals("中文 ", slicer.sliceRPad("中文字", 5));
+        assertEquals(" 中文", slicer.sliceLPad("中文字", 5));
+        assertEquals("**abc", slicer.slice("abc", 5, -1, '*'));
+        assertEquals("abc", slicer.slice("abc", 5, 0, '*'));
+        // 不補滿時，補滿字元不影響結果，共用同一個項目
+        assertEquals("abc", slicer.slice("abc", 5, 2, '#'));
+        assertEquals("中文 ", slicer.sliceRPad("中文字", 5));
+        assertEquals(2, slicer.hitCount());
+        assertEquals(4, slicer.missCount());
+        assertEquals(4, slicer.size());
+        assertEquals(1.0 / 3, slicer.hitRate(), 1e-9);
+
+        slicer.clear();
+        assertEquals(0, slicer.size());
+        assertEquals(0, slicer.hitCount());
+        assertEquals(0.0, slicer.hitRate(), 0);
+    }
+
+    @Test
+    void matchesStringUtils() {
+        WidthPolicy[] policies = {WidthPolicy.DEFAULT, CharsetWidthPolicy.ms950()};
+        String[] values = {"", "A01", "王小明", "Alice Smith", "ｶﾀｶﾅ商事", "中文字abc中文字", "😀x"};
+        for (WidthPolicy policy : policies) {
+            CachedSlicer slicer = new CachedSlicer(8, policy);
+            for (int round = 0; round < 2; round++) {
+                for (String value : values) {
+                    for (int length = -1; length <= 12; length++) {
+                        for (int option = -1; option <= 1; option++) {
+                            assertEquals(StringUtils.slice(value, length, option, '.', policy),
+                                    slicer.slice(value, length, option, '.'), value + ":" + length + ":" + option);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void bounded() {
+        CachedSlicer slicer = new CachedSlicer(64);
+        for (int i = 0; i < 1000; i++)
+            slicer.sliceRPad("value" + i, 10);
+        assertTrue(slicer.size() <= 64, String.valueOf(slicer.size()));
+        assertEquals(1000 - slicer.size(), slicer.evictionCount());
+
+        CachedSlicer single = new CachedSlicer(1);
+        single.sliceRPad("a", 2);
+        single.sliceRPad("b", 2);
+        assertEquals(1, single.size());
+        assertEquals(1, single.evictionCount());
+        assertThrows(IllegalArgumentException.class, () -> new CachedSlicer(0));
+    }
+
+    @Test
+    void capacity() {
+        for (int maximumSize : new int[]{1, 15, 100, 1000, 4099}) {
+            CachedSlicer slicer = new CachedSlicer(maximumSize, WidthPolicy.DEFAULT, 64);
+            // 一半容量的常用值，不會因分段的分布不均而被移除
+            int half = maximumSize / 2;
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < half; i++)
+                    slicer.sliceRPad("value" + i, 10);
+            }
+            assertEquals(half, slicer.missCount(), String.valueOf(maximumSize));
+            assertEquals(0, slicer.evictionCount(), String.valueOf(maximumSize));
+            // 各分段容量的總和即為 maximumSize
+            for (int i = 0; i < maximumSize * 10; i++)
+                slicer.sliceRPad("other" + i, 10);
+            assertEquals(maximumSize, slicer.size(), String.valueOf(maximumSize));
+        }
+    }
+
+    @Test
+    void leastRecentlyUsed() {
+        // 只有一個分段時，依存取順序移除
+        CachedSlicer slicer = new CachedSlicer(2, WidthPolicy.DEFAULT, 1);
+        slicer.sliceRPad("a", 2);
+        slicer.sliceRPad("b", 2);
+        slicer.sliceRPad("a", 2);
+        // 移除最久未使用的 b
+        slicer.sliceRPad("c", 2);
+        slicer.sliceRPad("a", 2);
+        assertEquals(2, slicer.hitCount());
+        slicer.sliceRPad("b", 2);
+        assertEquals(2, slicer.hitCount());
+        assertEquals(2, slicer.evictionCount());
+    }
+
+    @Test
+    void concurrent() throws InterruptedException {
+        CachedSlicer slicer = new CachedSlicer(256);
+        String[] values = new String[500];
+        for (int i = 0; i < values.length; i++)
+            values[i] = (i % 3 == 0 ? "分行" : "Branch-") + i;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Random random = new Random(t);
+            Thread worker = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 20_000; i++) {
+                        String value = values[random.nextInt(values.length)];
+                        assertEquals(StringUtils.sliceLPad(value, 9), slicer.sliceLPad(value, 9));
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers)
+            worker.join();
+        assertNull(failure.get());
+        assertEquals(80_000, slicer.hitCount() + slicer.missCount());
+        assertTrue(slicer.size() <= 256);
+    }
+}
@@ -0,0 +1,117 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharsetWidthPolicyTest {
+
+    @Test
+    void matchesEncodedLength() {
+        for (String name : new String[]{"MS950", "Big5", "Shift_JIS"}) {
+            Charset charset = Charset.forName(name);
+            CharsetWidthPolicy policy = CharsetWidthPolicy.of(charset);
+            for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                if (Character.isSurrogate((char) c))
+                    continue;
+                String str = String.valueOf((char) c);
+                assertEquals(str.getBytes(charset).length, policy.widthOf((char) c), name + " \\u" + Integer.toHexString(c));
+            }
+        }
+    }
+
+    @Test
+    void supplementaryMatchesEncodedLength() {
+        for (String name : new String[]{"UTF-8", "GB18030", "Big5-HKSCS", "MS950"}) {
+            Charset charset = Charset.forName(name);
+            CharsetWidthPolicy policy = CharsetWidthPolicy.of(charset);
+            for (int cp = Character.MIN_SUPPLEMENTARY_CODE_POINT; cp <= Character.MAX_CODE_POINT; cp += 61) {
+                String str = new String(Character.toChars(cp));
+                assertEquals(str.getBytes(charset).length, StringUtils.widthOf(str, policy), name + " U+" + Integer.toHexString(cp));
+            }
+        }
+    }
+
+    @Test
+    void supplementaryFields() {
+        CharsetWidthPolicy utf8 = CharsetWidthPolicy.of(StandardCharsets.UTF_8);
+        assertEquals(4, utf8.widthOf(0x1F600));
+        assertEquals(6, StringUtils.widthOf("ab😀", utf8));
+        assertEquals("ab  ", StringUtils.sliceRPad("ab😀", 4, ' ', utf8));
+        assertEquals("ab😀", StringUtils.sliceRPad("ab😀", 6, ' ', utf8));
+        assertEquals("ab😀", StringUtils.slice("ab😀c", 4, true, utf8));
+
+        // Big5-HKSCS：U+20021 為 2 bytes；無法編碼的 😀 以替代字元(1 byte)計算
+        Charset big5Hkscs = Charset.forName("Big5-HKSCS");
+        CharsetWidthPolicy hkscs = CharsetWidthPolicy.of(big5Hkscs);
+        String str = "ab\uD840\uDC21";
+        assertEquals(2, hkscs.widthOf(0x20021));
+        assertEquals(1, hkscs.widthOf(0x1F600));
+        assertEquals(4, StringUtils.widthOf(str, hkscs));
+        for (int length = 1; length <= 6; length++) {
+            assertEquals(length, StringUtils.sliceRPad(str, length, ' ', hkscs).getBytes(big5Hkscs).length);
+            assertEquals(length, StringUtils.sliceRPad("a😀" + str, length, ' ', hkscs).getBytes(big5Hkscs).length);
+        }
+        // 單獨的 surrogate 字元，以替代字元計算
+        assertEquals(1, StringUtils.widthOf("\uDC21", hkscs));
+    }
+
+    @Test
+    void cached() {
+        assertSame(CharsetWidthPolicy.ms950(), CharsetWidthPolicy.of(Charset.forName("MS950")));
+    }
+
+    @Test
+    void decodeOnlyCharset() {
+        // 與 EncodedSlicer.of 相同，無法編碼的編碼視為不合法的參數
+        assertThrows(IllegalArgumentException.class, () -> CharsetWidthPolicy.of(Charset.forName("ISO-2022-CN")));
+    }
+
+    @Test
+    void ebcdicWithoutShiftCodes() {
+        CharsetWidthPolicy policy = CharsetWidthPolicy.ibm937();
+        assertEquals(1, policy.widthOf('a'));
+        assertEquals(2, policy.widthOf('中'));
+        assertEquals(5, StringUtils.widthOf("a中文", policy));
+    }
+
+    @Test
+    void sliceByBytes() {
+        CharsetWidthPolicy ms950 = CharsetWidthPolicy.ms950();
+        // § 在預設的計算方式為 1，但在 MS950 為 2 bytes
+        assertEquals(1, StringUtils.widthOf("§"));
+        assertEquals(2, StringUtils.widthOf("§", ms950));
+        assertEquals("a", StringUtils.slice("a§b", 2, false, ms950));
+        assertEquals("a§", StringUtils.slice("a§b", 2, true, ms950));
+        assertEquals("a§b ", StringUtils.sliceRPad("a§b", 5, ' ', ms950));
+        assertEquals(" a§", StringUtils.sliceLPad("a§§", 4, ' ', ms950));
+        assertEquals("xa§b", StringUtils.leftPad("a§b", 5, 'x', ms950));
+        assertEquals("a§bx", StringUtils.rightPad("a§b", 5, 'x', ms950));
+        assertArrayEquals(new String[]{"a§", "b"}, StringUtils.split("a§b", 3, false, ms950));
+        assertArrayEquals(new String[]{"a", "§", "b"}, StringUtils.split("a§b", 2, false, ms950));
+
+        String str = "喔A一§ｶﾀ好";
+        Charset charset = ms950.charset();
+        for (int length = 1; length < 14; length++) {
+            String sliced = StringUtils.slice(str, length, false, ms950);
+            assertTrue(sliced.getBytes(charset).length <= length);
+            assertEquals(length, StringUtils.sliceRPad(str, length, ' ', ms950).getBytes(charset).length);
+        }
+    }
+
+    @Test
+    void recordLayout() {
+        RecordLayout layout = RecordLayout.builder()
+                .widthPolicy(CharsetWidthPolicy.ms950())
+                .field(3, 1)
+                .field(2, -1)
+                .build();
+        assertEquals("a  §", layout.format("a", "§"));
+        assertEquals("a§§", layout.format("a§", "§"));
+        assertArrayEquals(new String[]{"a", "§"}, layout.parse("a  §"));
+    }
+
+}
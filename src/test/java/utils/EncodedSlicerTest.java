@@ -0,0 +1,184 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncodedSlicerTest {
+
+    private static final Charset MS950 = Charset.forName("MS950");
+
+    @Test
+    void slice() {
+        EncodedSlicer slicer = EncodedSlicer.ms950();
+        byte[] bytes = "中文字abc".getBytes(MS950);
+        assertEquals(9, slicer.widthOf(bytes));
+        assertArrayEquals("中文".getBytes(MS950), slicer.slice(bytes, 5, false));
+        assertArrayEquals("中文字".getBytes(MS950), slicer.slice(bytes, 5, true));
+        assertArrayEquals("中文 ".getBytes(MS950), slicer.slice(bytes, 5, 1, ' '));
+        assertArrayEquals("000中文字abc".getBytes(MS950), slicer.slice(bytes, 12, -1, '0'));
+        assertEquals(4, slicer.cutIndex(bytes, 0, bytes.length, 5, false));
+
+        EncodedSlicer utf8 = EncodedSlicer.utf8();
+        bytes = "ｶﾀｶﾅ中文😀".getBytes(StandardCharsets.UTF_8);
+        assertEquals(12, utf8.widthOf(bytes));
+        assertArrayEquals("ｶﾀｶﾅ中".getBytes(StandardCharsets.UTF_8), utf8.slice(bytes, 7, false));
+        assertArrayEquals("ｶﾀｶﾅ中文😀".getBytes(StandardCharsets.UTF_8), utf8.slice(bytes, 9, true));
+    }
+
+    @Test
+    void narrowDoubleByte() {
+        // MS950 中，以 2 bytes 編碼、但解碼後為 U+00FF 以下的字元，長度為 1
+        EncodedSlicer slicer = EncodedSlicer.ms950();
+        byte[] bytes = "±×÷".getBytes(MS950);
+        assertEquals(6, bytes.length);
+        assertEquals(StringUtils.widthOf("±×÷"), slicer.widthOf(bytes));
+        assertArrayEquals("±×".getBytes(MS950), slicer.slice(bytes, 2, false));
+    }
+
+    @Test
+    void matchesStringUtils() {
+        // 與「解碼 → StringUtils → 編碼」逐一比對
+        String chars = "abc 01ÿ±×中文字測試ｱｶﾞ。「」￥😀";
+        Charset[] charsets = {StandardCharsets.UTF_8, MS950, Charset.forName("GBK")};
+        Random random = new Random(18);
+        for (Charset charset : charsets) {
+            EncodedSlicer slicer = EncodedSlicer.of(charset);
+            for (int n = 0; n < 200; n++) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = random.nextInt(20); i > 0; i--) {
+                    int c = chars.codePointAt(random.nextInt(chars.length()));
+                    if (!Character.isLowSurrogate((char) c) && charset.newEncoder().canEncode(new String(Character.toChars(c))))
+                        sb.appendCodePoint(c);
+                }
+                String str = sb.toString();
+                byte[] bytes = str.getBytes(charset);
+                assertEquals(StringUtils.widthOf(str), slicer.widthOf(bytes), charset + ":" + str);
+                for (int length = -1; length <= StringUtils.widthOf(str) + 2; length++) {
+                    String message = charset + ":" + str + ":" + length;
+                    assertArrayEquals(StringUtils.slice(str, length, false).getBytes(charset), slicer.slice(bytes, length, false), message);
+                    assertArrayEquals(StringUtils.slice(str, length, true).getBytes(charset), slicer.slice(bytes, length, true), message);
+                    for (int option = -1; option <= 1; option++)
+                        assertArrayEquals(StringUtils.slice(str, length, option, '*').getBytes(charset),
+                                slicer.slice(bytes, length, option, '*'), message + ":" + option);
+                    if (length > 0) {
+                        String[] expected = StringUtils.split(str, length, false);
+                        byte[][] segments = slicer.split(bytes, length, false);
+                        assertEquals(expected.length, segments.length, message);
+                        for (int i = 0; i < expected.length; i++)
+                            assertArrayEquals(expected[i].getBytes(charset), segments[i], message);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void byteBuffer() {
+        EncodedSlicer slicer = EncodedSlicer.utf8();
+        ByteBuffer src = ByteBuffer.allocateDirect(64);
+        src.put("xx王小明abc".getBytes(StandardCharsets.UTF_8)).flip();
+        src.position(2);
+        assertEquals(9, slicer.widthOf(src));
+        assertEquals(2, src.position());
+
+        ByteBuffer dest = ByteBuffer.allocateDirect(64);
+        dest.put((byte) '|');
+        slicer.slice(src, 12, 1, '.', dest);
+        assertEquals(src.limit(), src.position());
+        dest.flip();
+        byte[] written = new byte[dest.remaining()];
+        dest.get(written);
+        assertEquals("|王小明abc...", new String(written, StandardCharsets.UTF_8));
+
+        byte[] out = new byte[16];
+        byte[] bytes = "abc中文".getBytes(StandardCharsets.UTF_8);
+        int end = slicer.slice(bytes, 3, bytes.length, 6, -1, '0', out, 2);
+        assertEquals("00中文", new String(out, 2, end - 2, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void hugeLength() {
+        EncodedSlicer slicer = EncodedSlicer.ms950();
+        byte[] bytes = "中文字abc".getBytes(MS950);
+        // 不補滿時，只配置 src 長度的陣列
+        assertArrayEquals(bytes, slicer.slice(bytes, Integer.MAX_VALUE, 0, ' '));
+        assertArrayEquals(bytes, slicer.slice(bytes, Integer.MAX_VALUE, 2, ' '));
+        // 「中」為 3 個位元組、長度 2：補滿後為 Integer.MAX_VALUE + 1 個位元組，不會以負數配置陣列
+        byte[] wide = "中".getBytes(StandardCharsets.UTF_8);
+        assertThrows(ArithmeticException.class, () -> EncodedSlicer.utf8().slice(wide, Integer.MAX_VALUE, 1, ' '));
+    }
+
+    @Test
+    void sliceExactSize() {
+        EncodedSlicer slicer = EncodedSlicer.ms950();
+        byte[] bytes = "中文字abc".getBytes(MS950);
+        assertEquals("中文", new String(slicer.slice(bytes, 5, 0, '*'), MS950));
+        assertEquals("中文*", new String(slicer.slice(bytes, 5, 1, '*'), MS950));
+        assertEquals("*中文", new String(slicer.slice(bytes, 5, -1, '*'), MS950));
+        assertEquals("中文字abc***", new String(slicer.slice(bytes, 12, 1, '*'), MS950));
+        assertEquals("***中文字abc", new String(slicer.slice(bytes, 12, -1, '*'), MS950));
+        assertEquals("", new String(slicer.slice(bytes, -1, 1, '*'), MS950));
+    }
+
+    @Test
+    void overflowLeavesBuffersUntouched() {
+        EncodedSlicer slicer = EncodedSlicer.utf8();
+        byte[] bytes = "中文".getBytes(StandardCharsets.UTF_8);
+        for (int option : new int[]{1, -1}) {
+            // 需要 6 + 4 個位元組：切割的內容與補滿的字元都放得下，合計則放不下
+            ByteBuffer src = ByteBuffer.wrap(bytes);
+            ByteBuffer dest = ByteBuffer.allocate(9);
+            assertThrows(BufferOverflowException.class, () -> slicer.slice(src, 8, option, '*', dest));
+            assertEquals(0, src.position());
+            assertEquals(0, dest.position());
+            assertArrayEquals(new byte[9], dest.array());
+        }
+    }
+
+    @Test
+    void padding() {
+        EncodedSlicer slicer = EncodedSlicer.utf8();
+        byte[] bytes = "中文".getBytes(StandardCharsets.UTF_8);
+        String expected = "中文" + "*".repeat(196);
+        // heap buffer(陣列的起點不為 0)、direct buffer 的補滿長度皆超過一次寫入的長度
+        ByteBuffer heap = ByteBuffer.wrap(new byte[300], 10, 290).slice();
+        ByteBuffer direct = ByteBuffer.allocateDirect(300);
+        for (ByteBuffer dest : new ByteBuffer[]{heap, direct}) {
+            dest.put((byte) '|');
+            slicer.slice(ByteBuffer.wrap(bytes), 200, 1, '*', dest);
+            dest.flip();
+            byte[] written = new byte[dest.remaining()];
+            dest.get(written);
+            assertEquals("|" + expected, new String(written, StandardCharsets.UTF_8));
+        }
+        assertEquals(expected, new String(slicer.slice(bytes, 200, 1, '*'), StandardCharsets.UTF_8));
+        assertThrows(BufferOverflowException.class, () -> slicer.slice(ByteBuffer.wrap(bytes), 200, -1, '*', ByteBuffer.allocate(100)));
+    }
+
+    @Test
+    void malformed() {
+        // 無法解碼的位元組，每個位元組的長度為 2
+        EncodedSlicer utf8 = EncodedSlicer.utf8();
+        byte[] bytes = {'a', (byte) 0xE4, (byte) 0xB8, 'b', (byte) 0xFF};
+        assertEquals(8, utf8.widthOf(bytes));
+        assertEquals(2, utf8.cutIndex(bytes, 0, bytes.length, 4, false));
+        EncodedSlicer ms950 = EncodedSlicer.ms950();
+        assertEquals(3, ms950.widthOf(new byte[]{'a', (byte) 0xA4}));
+    }
+
+    @Test
+    void unsupported() {
+        assertThrows(IllegalArgumentException.class, () -> EncodedSlicer.of(StandardCharsets.UTF_16));
+        assertThrows(IllegalArgumentException.class, () -> EncodedSlicer.of(Charset.forName("IBM937")));
+        assertThrows(IllegalArgumentException.class, () -> EncodedSlicer.of(Charset.forName("EUC-JP")));
+        assertThrows(IllegalArgumentException.class, () -> EncodedSlicer.utf8().slice(new byte[0], 2, 1, '　'));
+        assertSame(EncodedSlicer.ms950(), EncodedSlicer.of(MS950));
+    }
+}
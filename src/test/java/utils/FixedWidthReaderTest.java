@@ -0,0 +1,70 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedWidthReaderTest {
+
+    private final RecordLayout layout = RecordLayout.builder()
+            .field(5, -1, '0')
+            .field(6, 1)
+            .build();
+
+    @Test
+    void read() throws IOException {
+        Path path = Files.createTempFile("fixed-width", ".txt");
+        try {
+            Files.write(path, "00012喔A一 \r\n12345      \n00000ｶ".getBytes(StandardCharsets.UTF_8));
+            try (FixedWidthReader reader = FixedWidthReader.open(path, layout, StandardCharsets.UTF_8)) {
+                assertTrue(reader.next());
+                assertEquals("00012喔A一 ", reader.line().toString());
+                assertEquals("12", reader.field(0).toString());
+                assertEquals("喔A一", reader.field(1).toString());
+                assertTrue(reader.next());
+                assertEquals("12345", reader.appendField(0, new StringBuilder()).toString());
+                assertEquals(0, reader.fieldLength(1));
+                assertTrue(reader.next());
+                assertEquals("", reader.field(0).toString());
+                assertEquals("ｶ", reader.field(1).toString());
+                assertFalse(reader.next());
+                assertFalse(reader.next());
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void readAcrossWindows() throws IOException {
+        // 以極小的映射區段與緩衝區，驗證跨區段的多位元組字元、以及超過緩衝區長度的資料錄
+        Charset ms950 = Charset.forName("MS950");
+        Path path = Files.createTempFile("fixed-width", ".txt");
+        try {
+            try (FixedWidthWriter writer = FixedWidthWriter.open(path, layout, ms950)) {
+                for (int i = 0; i < 500; i++)
+                    writer.write(i, "好" + i);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+                 FixedWidthReader reader = new FixedWidthReader(channel, layout, ms950, 7, 4)) {
+                for (int i = 0; i < 500; i++) {
+                    assertTrue(reader.next());
+                    assertEquals(i == 0 ? "" : String.valueOf(i), reader.field(0).toString());
+                    assertEquals(StringUtils.slice("好" + i, 6), reader.field(1).toString());
+                }
+                assertFalse(reader.next());
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+}
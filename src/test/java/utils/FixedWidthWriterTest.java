@@ -0,0 +1,60 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedWidthWriterTest {
+
+    private final RecordLayout layout = RecordLayout.builder()
+            .field(5, -1, '0')
+            .field(6, 1)
+            .build();
+
+    @Test
+    void write() throws IOException {
+        Path path = Files.createTempFile("fixed-width", ".txt");
+        try {
+            try (FixedWidthWriter writer = FixedWidthWriter.open(path, layout, StandardCharsets.UTF_8)) {
+                writer.write(12, "喔A一一Ｌ");
+                writer.write(i -> i == 0 ? "123456" : null);
+            }
+            assertEquals("00012喔A一 \n12345      \n", new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void writeSmallBuffer() throws IOException {
+        Charset ms950 = Charset.forName("MS950");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StringBuilder expected = new StringBuilder();
+        try (FixedWidthWriter writer = new FixedWidthWriter(Channels.newChannel(out), layout, ms950, "\r\n", 7)) {
+            for (int i = 0; i < 100; i++) {
+                writer.write(i, "好" + i);
+                expected.append(StringUtils.sliceLPad(String.valueOf(i), 5, '0'))
+                        .append(StringUtils.sliceRPad("好" + i, 6))
+                        .append("\r\n");
+            }
+        }
+        assertEquals(expected.toString(), new String(out.toByteArray(), ms950));
+    }
+
+    @Test
+    void writeAfterClose() throws IOException {
+        FixedWidthWriter writer = new FixedWidthWriter(Channels.newChannel(new ByteArrayOutputStream()), layout,
+                StandardCharsets.UTF_8, "\n", 64);
+        writer.close();
+        assertThrows(IOException.class, () -> writer.write(1, "a"));
+    }
+
+}
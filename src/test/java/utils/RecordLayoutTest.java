@@ -0,0 +1,54 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordLayoutTest {
+
+    private final RecordLayout layout = RecordLayout.builder()
+            .field(5, -1, '0')
+            .field(6, 1)
+            .field(3, 0)
+            .build();
+
+    @Test
+    void format() {
+        assertEquals("00012喔A一 ab", layout.format(12, "喔A一一Ｌ", "ab"));
+        assertEquals("00000      ", layout.format(null, "", null));
+        assertEquals(14, layout.recordWidth());
+        assertEquals(3, layout.fieldCount());
+    }
+
+    @Test
+    void formatIntoBuilder() {
+        StringBuilder sb = new StringBuilder();
+        Object[] row = {"123456", "好", "Ｌｶ"};
+        layout.format(row, sb);
+        assertEquals("12345好    Ｌｶ", sb.toString());
+        sb.setLength(0);
+        layout.format(i -> row[2 - i], sb);
+        assertEquals("00Ｌｶ好    123", sb.toString());
+        assertEquals(StringUtils.sliceLPad("Ｌｶ", 5, '0') + StringUtils.sliceRPad("好", 6) + StringUtils.slice("123456", 3),
+                sb.toString());
+    }
+
+    @Test
+    void formatWrongFieldCount() {
+        assertThrows(IllegalArgumentException.class, () -> layout.format("1", "2"));
+    }
+
+    @Test
+    void parse() {
+        assertArrayEquals(new String[]{"12", "喔A一", "ab"}, layout.parse("00012喔A一 ab"));
+        assertArrayEquals(new String[]{"12345", "好", "Ｌｶ"}, layout.parse("12345好    Ｌｶ"));
+        assertArrayEquals(new String[]{"12", "", ""}, layout.parse("00012"));
+        assertArrayEquals(new String[]{"", "", ""}, layout.parse(""));
+    }
+
+    @Test
+    void invalidWidth() {
+        assertThrows(IllegalArgumentException.class, () -> RecordLayout.builder().field(0, 1));
+    }
+
+}
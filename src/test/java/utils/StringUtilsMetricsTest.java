@@ -0,0 +1,174 @@
+package utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.StringUtilsMetrics.Operation;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringUtilsMetricsTest {
+
+    private static long value(String key) {
+        return StringUtilsMetrics.snapshot().get(key);
+    }
+
+    @BeforeEach
+    void enable() {
+        StringUtilsMetrics.reset();
+        StringUtilsMetrics.enable();
+    }
+
+    @AfterEach
+    void disable() {
+        StringUtilsMetrics.disable();
+        StringUtilsMetrics.reset();
+    }
+
+    @Test
+    void slice() {
+        assertEquals("中文", StringUtils.slice("中文字", 5));
+        assertEquals("中文字", StringUtils.slice("中文字", 5, true));
+        assertEquals("abc", StringUtils.slice("abc", 5));
+        assertEquals("", StringUtils.slice("abc", 0));
+        assertEquals("ab", StringUtils.slice("abc", 2));
+
+        assertEquals(5, value("slice.calls"));
+        assertEquals(15, value("slice.inputChars"));
+        assertEquals(5, value("slice.length.le3"));
+        // 切割於「字」之前、長度 0、以及切割於「c」之前
+        assertEquals(3, value("slice.truncations"));
+        assertEquals(5, value("slice.droppedChars"));
+        assertEquals(1, value("slice.cutCharDrops"));
+        assertEquals(0, value("slicePad.calls"));
+    }
+
+    @Test
+    void sliceRange() {
+        // 略過「中」之後切割 3：切割於「字」之前，捨棄「字」、「a」
+        assertEquals("文", StringUtils.slice("中文字a", 2, 3, false, false));
+        assertEquals("文字a", StringUtils.slice("中文字a", 2, 6, false, false));
+
+        assertEquals(2, value("slice.calls"));
+        assertEquals(8, value("slice.inputChars"));
+        assertEquals(1, value("slice.truncations"));
+        assertEquals(2, value("slice.droppedChars"));
+        assertEquals(1, value("slice.cutCharDrops"));
+    }
+
+    @Test
+    void tailStringOfSliced() {
+        // 回傳的是尾端，不計為截斷
+        assertEquals("字a", StringUtils.tailStringOfSliced("中文字a", 4, false));
+        assertEquals("", StringUtils.tailStringOfSliced("中文字a", 10, false));
+
+        assertEquals(2, value("slice.calls"));
+        assertEquals(8, value("slice.inputChars"));
+        assertEquals(0, value("slice.truncations"));
+        assertEquals(0, value("slice.droppedChars"));
+        assertEquals(0, value("slice.cutCharDrops"));
+    }
+
+    @Test
+    void slicePad() {
+        assertEquals("中文 ", StringUtils.slice("中文字", 5, 1, ' '));
+        assertEquals(" 中文", StringUtils.sliceLPad("中文字", 5));
+        StringBuilder sb = new StringBuilder();
+        StringUtils.appendSlice(sb, "abcdef", 4, 1, '*');
+        StringUtils.slice("ab", 4, -1, '*', new char[4], 0);
+        assertEquals("abcd**ab", sb.append("**ab").toString());
+
+        assertEquals(4, StringUtilsMetrics.calls(Operation.SLICE_PAD));
+        assertEquals(3, StringUtilsMetrics.truncations(Operation.SLICE_PAD));
+        assertEquals(4, StringUtilsMetrics.droppedChars(Operation.SLICE_PAD));
+        assertEquals(2, value("slicePad.cutCharDrops"));
+    }
+
+    @Test
+    void splitAndPad() {
+        assertArrayEquals(new String[]{"中", "文"}, StringUtils.split("中文", 3));
+        // 長度不足以容納全形字元
+        assertArrayEquals(new String[]{"a"}, StringUtils.split("a中文", 1));
+        Iterator<CharSequence> segments = StringUtils.segmentIterator("abcdef", 2, false);
+        segments.next();
+        assertEquals(2, StringUtilsMetrics.calls(Operation.SPLIT));
+        // 走訪完畢時才記錄
+        while (segments.hasNext())
+            segments.next();
+        assertFalse(segments.hasNext());
+        assertEquals(3, StringUtilsMetrics.calls(Operation.SPLIT));
+        assertEquals(1, StringUtilsMetrics.truncations(Operation.SPLIT));
+        assertEquals(2, StringUtilsMetrics.droppedChars(Operation.SPLIT));
+
+        StringUtils.leftPad("abc", 10);
+        StringUtils.rightPad("", 10);
+        assertEquals(2, StringUtilsMetrics.calls(Operation.PAD));
+        assertEquals(0, StringUtilsMetrics.truncations(Operation.PAD));
+        assertEquals(1, value("pad.length.le0"));
+    }
+
+    @Test
+    void disabled() {
+        StringUtilsMetrics.disable();
+        StringUtils.slice("中文字", 5);
+        StringUtils.split("中文字", 2);
+        StringUtils.rightPad("abc", 5);
+        for (long value : StringUtilsMetrics.snapshot().values())
+            assertEquals(0, value);
+    }
+
+    @Test
+    void buckets() {
+        assertEquals(0, StringUtilsMetrics.bucketOf(0));
+        assertEquals(1, StringUtilsMetrics.bucketOf(1));
+        assertEquals(2, StringUtilsMetrics.bucketOf(3));
+        assertEquals(3, StringUtilsMetrics.bucketOf(4));
+        assertEquals(16, StringUtilsMetrics.bucketOf(65535));
+        assertEquals(17, StringUtilsMetrics.bucketOf(65536));
+        assertEquals(17, StringUtilsMetrics.bucketOf(Integer.MAX_VALUE));
+        Map<String, Long> snapshot = StringUtilsMetrics.snapshot();
+        assertTrue(snapshot.containsKey("split.length.le65535"));
+        assertTrue(snapshot.containsKey("split.length.gt65535"));
+    }
+
+    @Test
+    void concurrent() throws InterruptedException {
+        int threads = 4;
+        int calls = 20_000;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < calls; i++)
+                    StringUtils.slice("中文字", 5);
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers)
+            worker.join();
+        assertEquals(threads * calls, StringUtilsMetrics.calls(Operation.SLICE));
+        assertEquals(threads * calls, StringUtilsMetrics.droppedChars(Operation.SLICE));
+    }
+
+    @Test
+    void mxBean() throws Exception {
+        ObjectName name = StringUtilsMetrics.registerMBean();
+        assertEquals(name, StringUtilsMetrics.registerMBean());
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        StringUtils.slice("abc", 1);
+        assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+        TabularData snapshot = (TabularData) server.getAttribute(name, "Snapshot");
+        assertEquals(1, (long) snapshot.get(new Object[]{"slice.calls"}).get("value"));
+        server.invoke(name, "reset", null, null);
+        assertEquals(0, StringUtilsMetrics.calls(Operation.SLICE));
+    }
+}
@@ -0,0 +1,155 @@
+package utils;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 以隨機產生的字串，將 StringUtils 以及以其為基礎的類別，與凍結的最初版本(ReferenceStringUtils)逐一比對。
+ * 每個字串皆比對所有的切割長度(-1 至總長度 + 2)及各種選項的組合
+ *
+ * <p>字串由數段半形、全形、日文半形及邊界字元組成，讓批次檢查半形字元的路徑與逐字元計算的路徑交錯出現；
+ * 只使用 BMP 中非 surrogate 的字元(參考 ReferenceStringUtils)
+ */
+class StringUtilsPropertiesTest {
+
+    private static final int TRIES = 2000;
+
+    // 以 DEFAULT 相同的長度計算，但不是 DEFAULT 本身：走一般 WidthPolicy 的路徑
+    private static final WidthPolicy SAME_AS_DEFAULT = StringUtils::widthOf;
+
+    private static final char[] PAD_CHARS = {' ', '0', '\uFF0A'};
+
+    @Provide
+    Arbitrary<String> mixedWidth() {
+        Arbitrary<String> halfWidth = Arbitraries.strings().withCharRange('\u0000', '\u00FF').ofMaxLength(40);
+        Arbitrary<String> ascii = Arbitraries.strings().withCharRange(' ', '~').ofMinLength(8).ofMaxLength(80);
+        Arbitrary<String> cjk = Arbitraries.strings().withCharRange('\u4E00', '\u4FFF').withCharRange('\u3000', '\u30FF')
+                .ofMaxLength(20);
+        Arbitrary<String> kana = Arbitraries.strings().withCharRange('\uFF61', '\uFF9F').ofMaxLength(10);
+        // 長度判斷的邊界字元
+        Arbitrary<String> edges = Arbitraries.strings()
+                .withChars('\u00FE', '\u00FF', '\u0100', '\uFF60', '\uFF61', '\uFF9F', '\uFFA0', '\uFFFF')
+                .ofMaxLength(6);
+        Arbitrary<String> anyBmp = Arbitraries.strings().withCharRange('\u0000', '\uD7FF').withCharRange('\uE000', '\uFFFF')
+                .ofMaxLength(10);
+        return Arbitraries.oneOf(halfWidth, ascii, cjk, kana, edges, anyBmp)
+                .list().ofMaxSize(8)
+                .map(runs -> String.join("", runs));
+    }
+
+    @Property(tries = TRIES)
+    void widthOf(@ForAll("mixedWidth") String str) {
+        assertEquals(ReferenceStringUtils.widthOf(str), StringUtils.widthOf(str), str);
+        assertEquals(ReferenceStringUtils.widthOf(str), StringUtils.widthOf(str, SAME_AS_DEFAULT), str);
+        for (int i = 0; i < str.length(); i++)
+            assertEquals(ReferenceStringUtils.widthOf(str.charAt(i)), StringUtils.widthOf(str.charAt(i)), str);
+    }
+
+    @Property(tries = TRIES)
+    void slice(@ForAll("mixedWidth") String str, @ForAll boolean includeCutChar) {
+        WidthIndexedString indexed = new WidthIndexedString(str);
+        for (int length = -1; length <= ReferenceStringUtils.widthOf(str) + 2; length++) {
+            String message = message(str, length, includeCutChar);
+            String expected = ReferenceStringUtils.slice(str, length, includeCutChar);
+            assertEquals(expected, StringUtils.slice(str, length, includeCutChar), message);
+            assertEquals(expected, StringUtils.slice(str, length, includeCutChar, SAME_AS_DEFAULT), message);
+            assertEquals(expected, indexed.slice(length, includeCutChar), message);
+
+            String tail = ReferenceStringUtils.tailStringOfSliced(str, length, includeCutChar);
+            assertEquals(tail, StringUtils.tailStringOfSliced(str, length, includeCutChar), message);
+            assertEquals(tail, indexed.tailStringOfSliced(length, includeCutChar), message);
+        }
+    }
+
+    @Property(tries = TRIES)
+    void sliceRange(@ForAll("mixedWidth") String str, @ForAll boolean includeFirstCutChar, @ForAll boolean includeSecondCutChar) {
+        WidthIndexedString indexed = new WidthIndexedString(str);
+        int width = ReferenceStringUtils.widthOf(str);
+        for (int afterWidth = -1; afterWidth <= width + 1; afterWidth++) {
+            for (int slicingWidth = -1; slicingWidth <= Math.min(width - afterWidth + 2, 9); slicingWidth++) {
+                String message = str + ":" + afterWidth + ":" + slicingWidth + ":" + includeFirstCutChar + ":" + includeSecondCutChar;
+                String expected = ReferenceStringUtils.slice(str, afterWidth, slicingWidth, includeFirstCutChar, includeSecondCutChar);
+                assertEquals(expected, StringUtils.slice(str, afterWidth, slicingWidth, includeFirstCutChar, includeSecondCutChar), message);
+                assertEquals(expected, indexed.slice(afterWidth, slicingWidth, includeFirstCutChar, includeSecondCutChar), message);
+            }
+        }
+    }
+
+    @Property(tries = TRIES)
+    void split(@ForAll("mixedWidth") String str, @ForAll boolean includeCutChar) {
+        for (int length = 1; length <= ReferenceStringUtils.widthOf(str) + 2; length++) {
+            String message = message(str, length, includeCutChar);
+            String[] expected = ReferenceStringUtils.split(str, length, includeCutChar);
+            assertArrayEquals(expected, StringUtils.split(str, length, includeCutChar), message);
+            assertArrayEquals(expected, StringUtils.split(str, length, includeCutChar, SAME_AS_DEFAULT), message);
+
+            List<String> segments = new ArrayList<>();
+            StringUtils.forEachSegment(str, length, includeCutChar, (start, end) -> segments.add(str.substring(start, end)));
+            assertArrayEquals(expected, segments.toArray(new String[0]), message);
+
+            segments.clear();
+            Iterator<CharSequence> iterator = StringUtils.segmentIterator(str, length, includeCutChar);
+            while (iterator.hasNext())
+                segments.add(iterator.next().toString());
+            assertArrayEquals(expected, segments.toArray(new String[0]), message);
+        }
+    }
+
+    @Property(tries = TRIES)
+    void slicePad(@ForAll("mixedWidth") String str) throws IOException {
+        CachedSlicer cached = new CachedSlicer(16);
+        StringBuilder sb = new StringBuilder();
+        StringWriter writer = new StringWriter();
+        char[] dest = new char[ReferenceStringUtils.widthOf(str) + 4];
+        for (int length = -1; length <= ReferenceStringUtils.widthOf(str) + 2; length++) {
+            for (char padChar : PAD_CHARS) {
+                for (int option = -2; option <= 2; option++) {
+                    String message = str + ":" + length + ":" + option + ":" + padChar;
+                    String expected = ReferenceStringUtils.slice(str, length, option, padChar);
+                    assertEquals(expected, StringUtils.slice(str, length, option, padChar), message);
+                    assertEquals(expected, StringUtils.slice(str, length, option, padChar, SAME_AS_DEFAULT), message);
+                    assertEquals(expected, cached.slice(str, length, option, padChar), message);
+
+                    sb.setLength(0);
+                    assertEquals(expected, StringUtils.appendSlice(sb, str, length, option, padChar).toString(), message);
+                    writer.getBuffer().setLength(0);
+                    assertEquals(expected, StringUtils.appendSlice((Appendable) writer, str, length, option, padChar).toString(), message);
+                    int end = StringUtils.slice(str, length, option, padChar, dest, 1);
+                    assertEquals(expected, new String(dest, 1, end - 1), message);
+                }
+                assertEquals(ReferenceStringUtils.sliceRPad(str, length, padChar), StringUtils.sliceRPad(str, length, padChar));
+                assertEquals(ReferenceStringUtils.sliceLPad(str, length, padChar), StringUtils.sliceLPad(str, length, padChar));
+            }
+            assertEquals(ReferenceStringUtils.sliceRPad(str, length), StringUtils.sliceRPad(str, length));
+            assertEquals(ReferenceStringUtils.sliceLPad(str, length), StringUtils.sliceLPad(str, length));
+        }
+    }
+
+    @Property(tries = TRIES)
+    void pad(@ForAll("mixedWidth") String str) {
+        for (int length = -1; length <= ReferenceStringUtils.widthOf(str) + 70; length += 3) {
+            for (char padChar : PAD_CHARS) {
+                String message = str + ":" + length + ":" + padChar;
+                assertEquals(ReferenceStringUtils.leftPad(str, length, padChar), StringUtils.leftPad(str, length, padChar), message);
+                assertEquals(ReferenceStringUtils.rightPad(str, length, padChar), StringUtils.rightPad(str, length, padChar), message);
+            }
+            assertEquals(ReferenceStringUtils.leftPad(str, length), StringUtils.leftPad(str, length));
+            assertEquals(ReferenceStringUtils.rightPad(str, length), StringUtils.rightPad(str, length));
+        }
+    }
+
+    private static String message(String str, int length, boolean includeCutChar) {
+        return str + ":" + length + ":" + includeCutChar;
+    }
+}
@@ -2,6 +2,17 @@ package utils;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.regex.Pattern;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class StringUtilsTest {
@@ -15,6 +26,54 @@ class StringUtilsTest {
         assertEquals(1, StringUtils.widthOf(','));
     }
 
+    @Test
+    void widthOfAllBmpChars() {
+        // 原本以正規表示式判斷的方式，作為比對的基準
+        Pattern halfWidth = Pattern.compile("[\u0000-\u00FF\uFF61-\uFF9F]");
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            int expected = halfWidth.matcher(String.valueOf((char) c)).matches() ? 1 : 2;
+            assertEquals(expected, StringUtils.widthOf((char) c), "char \\u" + Integer.toHexString(c));
+        }
+    }
+
+    @Test
+    void widthOfBlocksMatchScalar() {
+        // 另一個 WidthPolicy 實例不會走批次檢查，可作為逐字元計算的基準
+        WidthPolicy scalar = StringUtils::widthOf;
+        String[] strs = {"", "abc", "abcdefgh", "abcdefghijklmnopq", "中文abcdefgh", "abcdefg中abcdefghij",
+                "ÿabcdefghｱbcdefgh\uD83D\uDE00abcdefghi", "abcdefgh中文字中文字abcdefghabcdefgh"};
+        for (String str : strs) {
+            assertEquals(StringUtils.widthOf(str, scalar), StringUtils.widthOf(str), str);
+            for (int length = 1; length <= StringUtils.widthOf(str) + 1; length++) {
+                assertEquals(StringUtils.slice(str, length, false, scalar), StringUtils.slice(str, length, false), str + ":" + length);
+                assertEquals(StringUtils.slice(str, length, true, scalar), StringUtils.slice(str, length, true), str + ":" + length);
+                assertArrayEquals(StringUtils.split(str, length, false, scalar), StringUtils.split(str, length, false), str + ":" + length);
+            }
+        }
+        // 較長的字串：半形字元連續的長度不一，涵蓋整組檢查與逐字元計算的切換
+        Random random = new Random(7);
+        String chars = "abcxyz ÿ中文ｱ\uD83D\uDE00";
+        for (int n = 0; n < 50; n++) {
+            StringBuilder sb = new StringBuilder();
+            int runs = random.nextInt(20);
+            for (int r = 0; r < runs; r++) {
+                int halfWidth = random.nextInt(40);
+                for (int k = 0; k < halfWidth; k++)
+                    sb.append((char) ('a' + random.nextInt(26)));
+                int wide = random.nextInt(random.nextBoolean() ? 3 : 600);
+                for (int k = 0; k < wide; k++)
+                    sb.append(chars.charAt(random.nextInt(chars.length())));
+            }
+            String str = sb.toString();
+            int width = StringUtils.widthOf(str, scalar);
+            assertEquals(width, StringUtils.widthOf(str), str);
+            for (int length = 1; length <= width + 1; length += 1 + random.nextInt(16)) {
+                assertEquals(StringUtils.slice(str, length, false, scalar), StringUtils.slice(str, length, false), str + ":" + length);
+                assertEquals(StringUtils.slice(str, length, true, scalar), StringUtils.slice(str, length, true), str + ":" + length);
+            }
+        }
+    }
+
     @Test
     void testWidthOf() {
         assertEquals(1, StringUtils.widthOf(","));
@@ -33,6 +92,15 @@ class StringUtilsTest {
         assertEquals("", StringUtils.slice(",好ＬｶaA", 0, false));
     }
 
+    @Test
+    void sliceSurrogatePair() {
+        // surrogate pair 不會被切開，長度為兩個字元的總和
+        assertEquals(4, StringUtils.widthOf("\uD840\uDC00"));
+        assertEquals("a", StringUtils.slice("a\uD840\uDC00", 3, false));
+        assertEquals("a\uD840\uDC00", StringUtils.slice("a\uD840\uDC00", 3, true));
+        assertArrayEquals(new String[]{"\uD840\uDC00", "a"}, StringUtils.split("\uD840\uDC00a", 2, true));
+    }
+
     @Test
     void slice2() {
         assertEquals("好Ｌ", StringUtils.slice(",好ＬｶaA", 2, 3, true, true));
@@ -122,6 +190,45 @@ class StringUtilsTest {
         assertArrayEquals(new String[]{"a好好好"}, StringUtils.split("a好好好", 11, false));
     }
 
+    @Test
+    void forEachSegment() {
+        String str = "a好好好";
+        for (int length = 0; length <= 8; length++) {
+            for (boolean includeCutChar : new boolean[]{false, true}) {
+                List<String> segments = new ArrayList<>();
+                StringUtils.forEachSegment(str, length, includeCutChar, (start, end) -> segments.add(str.substring(start, end)));
+                assertArrayEquals(StringUtils.split(str, length, includeCutChar), segments.toArray(new String[0]));
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        StringUtils.forEachSegment("abcde", 2, (start, end) -> sb.append(start).append('-').append(end).append(' '));
+        assertEquals("0-2 2-4 4-5 ", sb.toString());
+    }
+
+    @Test
+    void segments() {
+        String str = "a好好好b好";
+        for (int length = 0; length <= 8; length++) {
+            for (boolean includeCutChar : new boolean[]{false, true}) {
+                String[] expected = StringUtils.split(str, length, includeCutChar);
+                assertArrayEquals(expected, StringUtils.segments(str, length, includeCutChar)
+                        .map(CharSequence::toString).toArray(String[]::new));
+                Iterator<CharSequence> iterator = StringUtils.segmentIterator(str, length, includeCutChar);
+                for (String segment : expected)
+                    assertEquals(segment, iterator.next().toString());
+                assertFalse(iterator.hasNext());
+                assertThrows(NoSuchElementException.class, iterator::next);
+            }
+        }
+        // 只取前幾段
+        assertEquals(Arrays.asList("a好", "好"), StringUtils.segments(str, 3, false).limit(2)
+                .map(CharSequence::toString).collect(Collectors.toList()));
+        CharSequence segment = StringUtils.segmentIterator(str, 4, true).next();
+        assertEquals(3, segment.length());
+        assertEquals('好', segment.charAt(1));
+        assertEquals("好好", segment.subSequence(1, 3).toString());
+    }
+
     @Test
     void leftPad() {
         assertEquals("123", StringUtils.leftPad("123", -1, 'x'));
@@ -144,6 +251,15 @@ class StringUtilsTest {
         assertEquals("12喔x", StringUtils.rightPad("12喔", 5, 'x'));
     }
 
+    @Test
+    void padLongerThanChunk() {
+        // 超過一次批次寫入的長度(64)，且補滿字元不是空白
+        assertEquals("0".repeat(147) + "123", StringUtils.leftPad("123", 150, '0'));
+        assertEquals("123" + "x".repeat(147), StringUtils.rightPad("123", 150, 'x'));
+        assertEquals("12" + "＊".repeat(130), StringUtils.rightPad("12", 132, '＊'));
+        assertEquals("0".repeat(128) + "喔", StringUtils.slice("喔", 130, -1, '0'));
+    }
+
     @Test
     void sliceRPad(){
         assertEquals("", StringUtils.sliceRPad("喔A一一Ｌ", -1));
@@ -184,4 +300,36 @@ class StringUtilsTest {
         assertEquals("xxxx喔A一一Ｌ", StringUtils.sliceLPad("喔A一一Ｌ", 13, 'x'));
     }
 
-}
\ No newline at end of file
+    @Test
+    void appendSlice() {
+        StringBuilder sb = new StringBuilder("#");
+        StringUtils.appendSlice(sb, "喔A一一Ｌ", 3, 1, 'x');
+        StringUtils.appendSlice(sb, "喔A一一Ｌ", 13, -1, 'x');
+        StringUtils.appendSlice(sb, "喔A一一Ｌ", 1, 0, 'x');
+        StringUtils.appendSlice(sb, "喔A一一Ｌ", -1, 1, 'x');
+        StringUtils.appendSlice(sb, "12", 80, 1, ' ');
+        assertEquals("#喔Axxxx喔A一一Ｌ12" + StringUtils.rightPad("", 78), sb.toString());
+    }
+
+    @Test
+    void appendSlice2() throws IOException {
+        StringWriter writer = new StringWriter();
+        StringUtils.appendSlice(writer, "喔A一一Ｌ", 1, 1, 'x');
+        StringUtils.appendSlice(writer, "喔A一一Ｌ", 4, -1, ' ');
+        StringUtils.appendSlice(writer, "喔A一一Ｌ", 13, 0, ' ');
+        assertEquals("x 喔A喔A一一Ｌ", writer.toString());
+    }
+
+    @Test
+    void sliceIntoCharArray() {
+        char[] dest = new char[20];
+        int offset = StringUtils.slice("喔A一一Ｌ", 4, 1, 'x', dest, 0);
+        assertEquals(3, offset);
+        offset = StringUtils.slice("喔A一一Ｌ", 6, -1, 'x', dest, offset);
+        assertEquals(7, offset);
+        offset = StringUtils.slice("喔A一一Ｌ", 0, -1, 'x', dest, offset);
+        assertEquals(7, offset);
+        assertEquals("喔Axx喔A一", new String(dest, 0, offset));
+    }
+
+}
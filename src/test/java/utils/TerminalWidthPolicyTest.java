@@ -0,0 +1,102 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TerminalWidthPolicyTest {
+
+    private final TerminalWidthPolicy policy = TerminalWidthPolicy.INSTANCE;
+
+    @Test
+    void widthOfCodePoint() {
+        assertEquals(1, policy.widthOf('a'));
+        assertEquals(2, policy.widthOf('好'));
+        assertEquals(2, policy.widthOf('Ｌ'));
+        assertEquals(1, policy.widthOf('ｶ'));
+        assertEquals(0, policy.widthOf('\u0301'));
+        assertEquals(0, policy.widthOf('\u200B'));
+        assertEquals(2, policy.widthOf(0x20000));
+        assertEquals(2, policy.widthOf(0x1F44D));
+        assertEquals(1, policy.widthOf(0x1F1F9));
+    }
+
+    @Test
+    void unicode14() {
+        assertEquals("14.0.0", TerminalWidthTable.UNICODE_VERSION);
+        // Unicode 14.0 新增的組合字元、寬版 emoji(執行於 Unicode 13.0 的 JDK 17 時亦相同)
+        assertEquals(0, policy.widthOf(0x1AC1));
+        assertEquals(0, policy.widthOf(0x0890));
+        assertEquals(2, policy.widthOf(0x1F6DD));
+        assertEquals(2, policy.widthOf(0x1FAE0));
+        // Unicode 15.0 才新增的字元，在 14.0 尚未指定：CJK 區塊及第 2、3 平面預設為 2，其餘為 1
+        assertEquals(1, policy.widthOf(0x1FA75));
+        assertEquals(2, policy.widthOf(0x31350));
+        assertEquals(2, policy.widthOf(0x3FFFD));
+        assertEquals(1, policy.widthOf(0x0378));
+        assertEquals(1, policy.widthOf(0x10FFFF));
+        // 韓文字母的中聲、終聲，以及 soft hyphen
+        assertEquals(0, policy.widthOf(0x1160));
+        assertEquals(1, policy.widthOf(0x00AD));
+        assertEquals(0, policy.widthOf('\n'));
+    }
+
+    @Test
+    void widthOf() {
+        assertEquals(3, StringUtils.widthOf("abc", policy));
+        assertEquals(4, StringUtils.widthOf("中文", policy));
+        // 組合字元
+        assertEquals(2, StringUtils.widthOf("e\u0301x", policy));
+        // CJK Extension B
+        assertEquals(2, StringUtils.widthOf("𠀀", policy));
+        // 膚色修飾、ZWJ 序列、國旗、VS16
+        assertEquals(4, StringUtils.widthOf("👍🏽ok", policy));
+        assertEquals(2, StringUtils.widthOf("\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67", policy));
+        assertEquals(4, StringUtils.widthOf("🇹🇼🇯🇵", policy));
+        assertEquals(2, StringUtils.widthOf("\u2764\uFE0F", policy));
+        // 韓文字母組合
+        assertEquals(2, StringUtils.widthOf("\u1100\u1161\u11A8", policy));
+    }
+
+    @Test
+    void sliceKeepsClusters() {
+        assertEquals("", StringUtils.slice("𠀀a", 1, false, policy));
+        assertEquals("𠀀", StringUtils.slice("𠀀a", 1, true, policy));
+        assertEquals("e\u0301", StringUtils.slice("e\u0301x", 1, false, policy));
+        assertEquals("a", StringUtils.slice("a👍🏽", 2, false, policy));
+        assertEquals("a👍🏽", StringUtils.slice("a👍🏽", 2, true, policy));
+        assertEquals("🇹🇼", StringUtils.slice("🇹🇼🇯🇵", 3, false, policy));
+    }
+
+    @Test
+    void split() {
+        assertArrayEquals(new String[]{"🇹🇼", "🇯🇵"},
+                StringUtils.split("🇹🇼🇯🇵", 2, false, policy));
+        assertArrayEquals(new String[]{"ab", "e\u0301c", "中"}, StringUtils.split("abe\u0301c中", 2, false, policy));
+        assertArrayEquals(new String[]{"a", "\r\nb"}, StringUtils.split("a\r\nb", 1, false, policy));
+    }
+
+    @Test
+    void pad() {
+        assertEquals("e\u0301𠀀  ", StringUtils.sliceRPad("e\u0301𠀀", 5, ' ', policy));
+        assertEquals("  中文", StringUtils.leftPad("中文", 6, ' ', policy));
+    }
+
+    @Test
+    void sliceIntoArray() {
+        // 組合字元的長度為 0：切割後的字元數(8)超過 length(4)
+        String str = "e\u0301e\u0301e\u0301e\u0301e\u0301";
+        char[] small = new char[4];
+        for (int option : new int[]{0, 1, -1}) {
+            assertThrows(IndexOutOfBoundsException.class, () -> StringUtils.slice(str, 4, option, '*', small, 0, policy));
+            // 空間不足時，不會寫入任何字元
+            assertArrayEquals(new char[4], small);
+        }
+        char[] dest = new char[10];
+        assertEquals(9, StringUtils.slice(str, 4, 1, '*', dest, 1, policy));
+        assertEquals(str.substring(0, 8), new String(dest, 1, 8));
+        assertEquals(8, StringUtils.slice("e\u0301中", 5, -1, '*', dest, 3, policy));
+        assertEquals("**e\u0301中", new String(dest, 3, 5));
+    }
+
+}
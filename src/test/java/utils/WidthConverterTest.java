@@ -0,0 +1,86 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WidthConverterTest {
+
+    @Test
+    void toHalfWidth() {
+        assertEquals("ABC xyz 123!~", WidthConverter.toHalfWidth("ＡＢＣ　ｘｙｚ　１２３！～"));
+        assertEquals("ｶﾀｶﾅ ｶﾞｷﾞﾊﾟﾋﾟｳﾞﾜﾞｦﾞ", WidthConverter.toHalfWidth("カタカナ　ガギパピヴヷヺ"));
+        assertEquals("｡｢｣､･ｰﾞﾟｧｯ", WidthConverter.toHalfWidth("。「」、・ー゛゜ァッ"));
+        // 組合用的濁點
+        assertEquals("ｶﾞ", WidthConverter.toHalfWidth("ガ"));
+        assertEquals("¢£¬¯¦¥₩", WidthConverter.toHalfWidth("￠￡￢￣￤￥￦"));
+        // 沒有對應半形字元的字元不變
+        assertEquals("中文ひらがな", WidthConverter.toHalfWidth("中文ひらがな"));
+        String unchanged = "abc 中文";
+        assertSame(unchanged, WidthConverter.toHalfWidth(unchanged));
+    }
+
+    @Test
+    void toFullWidth() {
+        assertEquals("ＡＢＣ　ｘｙｚ　１２３！～", WidthConverter.toFullWidth("ABC xyz 123!~"));
+        assertEquals("カタカナ　ガギパピヴヷヺ", WidthConverter.toFullWidth("ｶﾀｶﾅ ｶﾞｷﾞﾊﾟﾋﾟｳﾞﾜﾞｦﾞ"));
+        assertEquals("。「」、・ー゛゜ァッ", WidthConverter.toFullWidth("｡｢｣､･ｰﾞﾟｧｯ"));
+        // 無法組合的濁點、半濁點，維持獨立的字元
+        assertEquals("ア゛カ゜", WidthConverter.toFullWidth("ｱﾞｶﾟ"));
+        assertEquals("￠￡￢￣￤￥￦", WidthConverter.toFullWidth("¢£¬¯¦¥₩"));
+        String unchanged = "中文ガ";
+        assertSame(unchanged, WidthConverter.toFullWidth(unchanged));
+    }
+
+    @Test
+    void roundTrip() {
+        for (char c = '｡'; c <= 'ﾟ'; c++) {
+            String half = String.valueOf(c);
+            assertEquals(half, WidthConverter.toHalfWidth(WidthConverter.toFullWidth(half)));
+        }
+        for (char c = '!'; c <= '~'; c++) {
+            String half = String.valueOf(c);
+            assertEquals(half, WidthConverter.toHalfWidth(WidthConverter.toFullWidth(half)));
+        }
+        String kana = "ｶﾞｷﾞｸﾞｹﾞｺﾞｻﾞｼﾞｽﾞｾﾞｿﾞﾀﾞﾁﾞﾂﾞﾃﾞﾄﾞﾊﾞﾋﾞﾌﾞﾍﾞﾎﾞﾊﾟﾋﾟﾌﾟﾍﾟﾎﾟ";
+        assertEquals(kana, WidthConverter.toHalfWidth(WidthConverter.toFullWidth(kana)));
+        assertEquals(kana.length() / 2, WidthConverter.toFullWidth(kana).length());
+    }
+
+    @Test
+    void sliceHalfWidth() {
+        assertEquals("ABC中文 ", WidthConverter.sliceHalfWidth("ＡＢＣ中文", 8, 1, ' '));
+        assertEquals("0ABC中文", WidthConverter.sliceHalfWidth("ＡＢＣ中文", 8, -1, '0'));
+        assertEquals("ABC中", WidthConverter.sliceHalfWidth("ＡＢＣ中文", 6, 0, ' '));
+        // 濁音轉換後的兩個字元不會被切開
+        assertEquals("ｱｶ ", WidthConverter.sliceHalfWidth("アカガ", 3, 1, ' '));
+        assertEquals("ｱｶｶﾞ", WidthConverter.sliceHalfWidth("アカガ", 4, 1, ' '));
+        assertEquals("**ｶﾞｷﾞ", WidthConverter.sliceHalfWidth("ガギ", 6, -1, '*'));
+        assertEquals("", WidthConverter.sliceHalfWidth("ＡＢＣ", 0, 1, ' '));
+        assertEquals("𠀀a ", WidthConverter.sliceHalfWidth("𠀀ａ", 6, 1, ' '));
+    }
+
+    @Test
+    void sliceHugeLengthWithoutPadding() {
+        // 不補滿時，不會配置 length 大小的陣列
+        assertEquals("ABCｶﾞ", WidthConverter.sliceHalfWidth("ＡＢＣガ", Integer.MAX_VALUE, 0, ' '));
+        assertEquals("ＡＢＣガ", WidthConverter.sliceFullWidth("ABCｶﾞ", Integer.MAX_VALUE, 0, ' '));
+        assertEquals("", WidthConverter.sliceHalfWidth("", Integer.MAX_VALUE, 2, ' '));
+    }
+
+    @Test
+    void sliceMatchesSlice() {
+        // 與先轉換再切割的結果相同(不含切在濁點之前的情況)
+        String[] strs = {"", "ＡＢＣ　中文ｘｙｚ", "abc ｱｲｳ｡中文", "カタカナ、ひらがな。", "𠀀ＡＢ"};
+        for (String str : strs) {
+            for (int length = 0; length <= 24; length++) {
+                for (int option = -1; option <= 1; option++) {
+                    assertEquals(StringUtils.slice(WidthConverter.toFullWidth(str), length, option, '*'),
+                            WidthConverter.sliceFullWidth(str, length, option, '*'), str + ":" + length + ":" + option);
+                    assertEquals(StringUtils.slice(WidthConverter.toHalfWidth(str), length, option, '*'),
+                            WidthConverter.sliceHalfWidth(str, length, option, '*'), str + ":" + length + ":" + option);
+                }
+            }
+        }
+    }
+}
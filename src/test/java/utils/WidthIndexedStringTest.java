@@ -0,0 +1,67 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WidthIndexedStringTest {
+
+    @Test
+    void slice() {
+        WidthIndexedString str = new WidthIndexedString("中文字abc中文字");
+        assertEquals(15, str.width());
+        assertEquals("中文", str.slice(5, false));
+        assertEquals("中文字", str.slice(5, true));
+        assertEquals("字abc中文字", str.tailStringOfSliced(5, false));
+        assertEquals("文字abc中", str.slice(2, 9, false, false));
+        assertEquals("字abc中文", str.slice(3, 8, false, true));
+        assertEquals("中文字abc中文字", str.slice(0, 100, false, false));
+        assertEquals("", str.slice(100, 2, false, false));
+        assertEquals(3, str.offsetAt(6, false));
+        assertEquals(6, str.widthBefore(3));
+    }
+
+    @Test
+    void emptyString() {
+        WidthIndexedString str = new WidthIndexedString("");
+        assertEquals(0, str.width());
+        assertEquals("", str.slice(5, true));
+        assertEquals("", str.slice(1, 5, true, true));
+        assertEquals(0, str.offsetAt(3, true));
+    }
+
+    @Test
+    void matchesStringUtils() {
+        // 與 StringUtils 逐一比對：各種長度的字串、切割位置、以及 WidthPolicy
+        WidthPolicy[] policies = {WidthPolicy.DEFAULT, CharsetWidthPolicy.ms950(), TerminalWidthPolicy.INSTANCE};
+        String chars = "abc 中文字ｱｶﾞÿ😀́‍🇹🇼";
+        Random random = new Random(11);
+        for (int n = 0; n < 30; n++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(n < 10 ? 20 : 400);
+            for (int i = 0; i < length; i++)
+                sb.append(chars.charAt(random.nextInt(chars.length())));
+            String str = sb.toString();
+            for (WidthPolicy policy : policies) {
+                WidthIndexedString indexed = new WidthIndexedString(str, policy);
+                int width = StringUtils.widthOf(str, policy);
+                assertEquals(width, indexed.width(), str);
+                for (int column = -1; column <= width + 2; column++) {
+                    String message = str + ":" + column;
+                    assertEquals(StringUtils.slice(str, column, false, policy), indexed.slice(column, false), message);
+                    assertEquals(StringUtils.slice(str, column, true, policy), indexed.slice(column, true), message);
+                    assertEquals(StringUtils.tailStringOfSliced(str, column, false, policy), indexed.tailStringOfSliced(column, false), message);
+                    int slicingWidth = random.nextInt(12) - 1;
+                    for (int k = 0; k < 4; k++) {
+                        boolean first = (k & 1) != 0;
+                        boolean second = (k & 2) != 0;
+                        assertEquals(StringUtils.slice(str, column, slicingWidth, first, second, policy),
+                                indexed.slice(column, slicingWidth, first, second), message + "," + slicingWidth + "," + k);
+                    }
+                }
+            }
+        }
+    }
+}
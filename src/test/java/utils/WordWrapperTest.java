@@ -0,0 +1,147 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordWrapperTest {
+
+    @Test
+    void wrapLatin() {
+        WordWrapper wrapper = new WordWrapper(10);
+        assertEquals(Arrays.asList("The quick", "brown fox", "jumps over", "the lazy", "dog."),
+                wrapper.wrap("The quick brown fox jumps over the lazy dog."));
+        // 行首、行尾的空白
+        assertEquals(Arrays.asList("  The", "quick"), wrapper.wrap("  The      quick   "));
+    }
+
+    @Test
+    void wrapCjk() {
+        WordWrapper wrapper = new WordWrapper(6);
+        assertEquals(Arrays.asList("中文字", "中文字", "中文"), wrapper.wrap("中文字中文字中文"));
+        assertEquals(Arrays.asList("中文", "abc中", "文"), wrapper.wrap("中文abc中文"));
+        assertEquals(Arrays.asList("ｶﾀｶﾅｶﾀ", "ｶﾅ"), wrapper.wrap("ｶﾀｶﾅｶﾀｶﾅ"));
+    }
+
+    @Test
+    void kinsoku() {
+        WordWrapper wrapper = new WordWrapper(6);
+        // 句號不可位於行首
+        assertEquals(Arrays.asList("中文", "字。測", "試"), wrapper.wrap("中文字。測試"));
+        // 左括號不可位於行尾，右括號不可位於行首
+        assertEquals(Arrays.asList("中文", "「測", "試」"), wrapper.wrap("中文「測試」"));
+        // 英文標點
+        assertEquals(Arrays.asList("ab中", "文,"), new WordWrapper(6).wrap("ab中文,"));
+    }
+
+    @Test
+    void hardCut() {
+        WordWrapper wrapper = new WordWrapper(4);
+        assertEquals(Arrays.asList("abcd", "efgh", "ij"), wrapper.wrap("abcdefghij"));
+        assertEquals(Arrays.asList("a", "abcd", "efg"), wrapper.wrap("a abcdefg"));
+        // 單一個字元的長度即超過一行
+        assertEquals(Arrays.asList("中", "文"), new WordWrapper(1).wrap("中文"));
+    }
+
+    @Test
+    void indentation() {
+        WordWrapper wrapper = new WordWrapper(5);
+        // 縮排之後放不下的詞，捨棄縮排後換行，不會被切開
+        assertEquals(Arrays.asList("abc", "def"), wrapper.wrap("   abc def"));
+        // 放得下時保留縮排
+        assertEquals(Arrays.asList("  abc", "def"), wrapper.wrap("  abc def"));
+        // 詞本身超過一行時，仍然直接切斷
+        assertEquals(Arrays.asList("abcde", "fg"), wrapper.wrap("  abcdefg"));
+        assertEquals(Arrays.asList("abc  ", "def  "), new WordWrapper(5, WidthPolicy.DEFAULT, true).wrap("   abc def"));
+    }
+
+    @Test
+    void paragraphs() throws IOException {
+        WordWrapper wrapper = new WordWrapper(8);
+        String text = "first line\r\n\nsecond 中文段落\n";
+        List<String> expected = Arrays.asList("first", "line", "", "second", "中文段落");
+        assertEquals(expected, wrapper.wrap(text));
+        List<String> lines = new ArrayList<>();
+        wrapper.wrap(new StringReader(text), lines::add);
+        assertEquals(expected, lines);
+        assertEquals(new ArrayList<>(), wrapper.wrap(""));
+    }
+
+    @Test
+    void lineBreaksSameForReader() throws IOException {
+        WordWrapper wrapper = new WordWrapper(10);
+        // 只有 \n、\r\n 分隔段落；單獨的 \r 不分隔
+        String[] texts = {"abc\rdef ghi", "abc\r\ndef\n\r\nghi\r", "\r\n\nabc def ghi jkl\n"};
+        for (String text : texts) {
+            List<String> lines = new ArrayList<>();
+            wrapper.wrap(new StringReader(text), lines::add);
+            assertEquals(wrapper.wrap(text), lines, text);
+            // 每次只讀取一個字元：\r\n 跨越兩次讀取
+            lines.clear();
+            wrapper.wrap(new FilterReader(new StringReader(text)) {
+                @Override
+                public int read(char[] cbuf, int off, int len) throws IOException {
+                    return super.read(cbuf, off, Math.min(len, 1));
+                }
+            }, lines::add);
+            assertEquals(wrapper.wrap(text), lines, text);
+        }
+        assertEquals(Arrays.asList("abc\rdef", "ghi"), wrapper.wrap("abc\rdef ghi"));
+        assertEquals(Arrays.asList("abc", "def", "", "ghi\r"), wrapper.wrap(texts[1]));
+    }
+
+    @Test
+    void justify() {
+        WordWrapper wrapper = new WordWrapper(10, WidthPolicy.DEFAULT, true);
+        assertEquals(Arrays.asList("The  quick", "brown  fox", "jumps     "), wrapper.wrap("The quick brown fox jumps"));
+        WordWrapper cjk = new WordWrapper(7, WidthPolicy.DEFAULT, true);
+        assertEquals(Arrays.asList("中 文字", "中文字 "), cjk.wrap("中文字中文字"));
+        assertEquals(Arrays.asList("中 文。", "測試   "), cjk.wrap("中文。測試"));
+        // 單一字元即超過一行時，單獨成為一行，長度超過 width
+        assertEquals(Arrays.asList("中", "文", "a"), new WordWrapper(1, WidthPolicy.DEFAULT, true).wrap("中文a"));
+    }
+
+    @Test
+    void widthPolicy() {
+        WordWrapper wrapper = new WordWrapper(4, TerminalWidthPolicy.INSTANCE, false);
+        // 組合字元不會被切開
+        assertEquals(Arrays.asList("éééé", "é"), wrapper.wrap("ééééé"));
+    }
+
+    @Test
+    void invariants() {
+        // 每一行皆不超過長度，且除了空白之外，內容不會遺漏
+        Random random = new Random(3);
+        String chars = "abcde   中文字。，「」ｱｶ!";
+        for (int width = 1; width <= 12; width++) {
+            for (boolean justify : new boolean[]{false, true}) {
+                WordWrapper wrapper = new WordWrapper(width, WidthPolicy.DEFAULT, justify);
+                for (int n = 0; n < 30; n++) {
+                    StringBuilder sb = new StringBuilder();
+                    int length = random.nextInt(80);
+                    for (int i = 0; i < length; i++)
+                        sb.append(chars.charAt(random.nextInt(chars.length())));
+                    String text = sb.toString();
+                    StringBuilder joined = new StringBuilder();
+                    for (String line : wrapper.wrap(text)) {
+                        int lineWidth = StringUtils.widthOf(line);
+                        if (justify && lineWidth < width)
+                            fail("Not justified: [" + line + "] from " + text);
+                        if (lineWidth > width && StringUtils.widthOf(line.trim()) > 2)
+                            fail("Too wide: [" + line + "] from " + text);
+                        joined.append(line);
+                    }
+                    assertEquals(text.replace(" ", ""), joined.toString().replace(" ", ""), text);
+                }
+            }
+        }
+    }
+}
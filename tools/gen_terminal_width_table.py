@@ -0,0 +1,147 @@
+#!/usr/bin/env python3
+"""Generate src/main/java/utils/TerminalWidthTable.java for TerminalWidthPolicy.
+
+The table is built from the unicodedata module of the running Python, whose
+Unicode version must equal UNICODE_VERSION (Python 3.11 ships Unicode 14.0.0).
+To move to another Unicode version, run this script with a matching Python,
+update UNICODE_VERSION, and check the spot values in TerminalWidthPolicyTest.
+
+usage: python3 tools/gen_terminal_width_table.py [output]
+"""
+
+import os
+import sys
+import unicodedata
+
+UNICODE_VERSION = "14.0.0"
+
+BLOCK_SHIFT = 8
+BLOCK_SIZE = 1 << BLOCK_SHIFT
+
+# Same flags as TerminalWidthPolicy: the low 2 bits are the width.
+EXTEND = 0x04
+CONTROL = 0x08
+
+# UAX #11: unassigned code points in these ranges default to W; all other
+# unassigned code points default to N. unicodedata reports every unassigned
+# code point as F, so the defaults are applied here.
+DEFAULT_WIDE = [(0x3400, 0x4DBF), (0x4E00, 0x9FFF), (0xF900, 0xFAFF),
+                (0x20000, 0x2FFFD), (0x30000, 0x3FFFD)]
+
+LINE = 128
+
+
+def is_wide(cp, category):
+    if category == "Cn":
+        return any(start <= cp <= end for start, end in DEFAULT_WIDE)
+    return unicodedata.east_asian_width(chr(cp)) in ("W", "F")
+
+
+def is_zero_width(cp, category):
+    # Hangul medial vowels and final consonants combine with the initial.
+    if 0x1160 <= cp <= 0x11FF:
+        return True
+    # U+00AD (soft hyphen) is conventionally shown with width 1.
+    if cp == 0x00AD:
+        return False
+    return category in ("Mn", "Me", "Cf", "Cc")
+
+
+def is_extend(cp, category):
+    # Emoji skin tone modifiers.
+    if 0x1F3FB <= cp <= 0x1F3FF:
+        return True
+    if 0x1160 <= cp <= 0x11FF:
+        return True
+    if category in ("Mn", "Me", "Mc"):
+        return True
+    # ZWNJ and the emoji tag characters.
+    return category == "Cf" and (cp == 0x200C or 0xE0020 <= cp <= 0xE007F)
+
+
+def props_of(cp):
+    category = unicodedata.category(chr(cp))
+    if is_zero_width(cp, category):
+        props = 0
+    else:
+        props = 2 if is_wide(cp, category) else 1
+    if is_extend(cp, category):
+        props |= EXTEND
+    if category == "Cc":
+        props |= CONTROL
+    return props
+
+
+def java_string(name, hex_digits):
+    lines = [hex_digits[i:i + LINE] for i in range(0, len(hex_digits), LINE)]
+    body = "\n            + ".join('"%s"' % line for line in lines)
+    return "    private static final String %s =\n            %s;\n" % (name, body)
+
+
+def main():
+    if unicodedata.unidata_version != UNICODE_VERSION:
+        sys.exit("unicodedata is Unicode %s, expected %s"
+                 % (unicodedata.unidata_version, UNICODE_VERSION))
+    output = sys.argv[1] if len(sys.argv) > 1 else os.path.join(
+        os.path.dirname(__file__), "..", "src", "main", "java", "utils", "TerminalWidthTable.java")
+
+    props = [props_of(cp) for cp in range(sys.maxunicode + 1)]
+    index = []
+    blocks = []
+    unique = {}
+    for start in range(0, len(props), BLOCK_SIZE):
+        block = tuple(props[start:start + BLOCK_SIZE])
+        if block not in unique:
+            unique[block] = len(blocks)
+            blocks.append(block)
+        index.append(unique[block])
+
+    index_digits = 2 if len(blocks) <= 0x100 else 4
+    index_hex = "".join("%0*X" % (index_digits, i) for i in index)
+    blocks_hex = "".join("%X" % p for block in blocks for p in block)
+
+    with open(output, "w", encoding="utf-8", newline="\n") as out:
+        out.write("""package utils;
+
+/**
+ * TerminalWidthPolicy 的對照表，依 Unicode %(version)s 的 UnicodeData 與 EastAsianWidth 產生；
+ * 未指定的碼位依 UAX #11 的預設值(CJK 區塊及第 2、3 平面為 W，其餘為 N)
+ *
+ * <p>此檔案由 tools/gen_terminal_width_table.py 產生，請勿手動修改
+ */
+final class TerminalWidthTable {
+
+    static final String UNICODE_VERSION = "%(version)s";
+
+    static final int BLOCK_SHIFT = %(shift)d;
+
+    // 第一層：碼位 >> BLOCK_SHIFT 所對應的第二層區塊編號
+    static final char[] INDEX;
+    // 第二層：各區塊內每個碼位的屬性
+    static final byte[] BLOCKS;
+
+    // 每個區塊編號為 %(digits)d 位數的 16 進位數字
+%(index)s
+    // 每個碼位的屬性為 1 位數的 16 進位數字
+%(blocks)s
+    static {
+        char[] index = new char[INDEX_HEX.length() / %(digits)d];
+        for (int i = 0; i < index.length; i++)
+            index[i] = (char) Integer.parseInt(INDEX_HEX, i * %(digits)d, (i + 1) * %(digits)d, 16);
+        byte[] blocks = new byte[BLOCKS_HEX.length()];
+        for (int i = 0; i < blocks.length; i++)
+            blocks[i] = (byte) Character.digit(BLOCKS_HEX.charAt(i), 16);
+        INDEX = index;
+        BLOCKS = blocks;
+    }
+
+    private TerminalWidthTable() {
+    }
+}
+""" % {"version": UNICODE_VERSION, "shift": BLOCK_SHIFT, "digits": index_digits,
+       "index": java_string("INDEX_HEX", index_hex), "blocks": java_string("BLOCKS_HEX", blocks_hex)})
+    print("%d blocks, %d index entries -> %s" % (len(blocks), len(index), output))
+
+
+if __name__ == "__main__":
+    main()